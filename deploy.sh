@@ -3,6 +3,9 @@
 APP_NAME=growin-api
 BLUE_PORT=8080
 GREEN_PORT=8081
+# 관리 포트 (actuator: readiness/liveness, prometheus)
+BLUE_MANAGEMENT_PORT=9080
+GREEN_MANAGEMENT_PORT=9081
 NGINX_CONF=/home/ubuntu/growin/nginx/default.conf
 
 echo "deploy start"
@@ -10,6 +13,9 @@ echo "deploy start"
 echo "Pulling latest image..."
 docker pull ghcr.io/growin-2025/growin-server:latest
 
+# 스키마 변경은 자동으로 반영되지 않는다. 배포 전에 db/migration 스크립트를 먼저 실행해야 한다. (README "DB 마이그레이션")
+echo "DB migrations (src/main/resources/db/migration) must already be applied to the primary DB"
+
 if ! docker ps --format '{{.Names}}' | grep -q "${APP_NAME}-blue" && \
    ! docker ps --format '{{.Names}}' | grep -q "${APP_NAME}-green"; then
   echo "First deployment detected — starting blue container..."
@@ -22,10 +28,12 @@ if docker ps --format '{{.Names}}' | grep -q "${APP_NAME}-blue"; then
   CURRENT="blue"
   NEXT="green"
   NEXT_PORT=$GREEN_PORT
+  NEXT_MANAGEMENT_PORT=$GREEN_MANAGEMENT_PORT
 else
   CURRENT="green"
   NEXT="blue"
   NEXT_PORT=$BLUE_PORT
+  NEXT_MANAGEMENT_PORT=$BLUE_MANAGEMENT_PORT
 fi
 
 
@@ -36,11 +44,13 @@ echo "deploy $NEXT Container"
 docker compose -f docker-compose.common.yml -f docker-compose.${NEXT}.yml up -d
 
 
-echo "running health check on port ${NEXT_PORT}"
+# readiness는 기동 후 워밍업(growin.warmup)이 지연 목표를 만족해야 UP이 된다.
+# 워밍업 예산(max-duration 40s)은 JVM 시작부터 세므로, 컨테이너 시작부터 세는 아래 대기(3s x 20 = 60s) 안에 UP/DOWN이 정해진다.
+echo "running readiness check on management port ${NEXT_MANAGEMENT_PORT}"
 success=false
 for i in {1..20}; do
   sleep 3
-  if curl -fs "http://localhost:${NEXT_PORT}/test/health" | grep -q "UP"; then
+  if curl -fs "http://127.0.0.1:${NEXT_MANAGEMENT_PORT}/actuator/health/readiness" | grep -q '"status":"UP"'; then
     echo "Health Check Passed"
     success=true
     break
@@ -0,0 +1,76 @@
+package ita.growin.benchmark;
+
+import ita.growin.domain.event.dto.request.EventReqDto;
+import ita.growin.domain.event.dto.response.EventResDto;
+import ita.growin.domain.event.entity.Event;
+import ita.growin.domain.event.enums.RepeatType;
+import ita.growin.domain.event.recurrence.EventSeries;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+// 벤치마크 공용 샘플 데이터
+final class BenchmarkFixtures {
+
+    static final LocalDate START_DATE = LocalDate.of(2025, 11, 5);
+
+    private BenchmarkFixtures() {}
+
+    static EventReqDto request() {
+        return EventReqDto.builder()
+                .title("팀 회의")
+                .allDay(false)
+                .startDate(START_DATE)
+                .endDate(START_DATE)
+                .startDay(DayOfWeek.WEDNESDAY)
+                .endDay(DayOfWeek.WEDNESDAY)
+                .startTime(LocalTime.of(10, 0))
+                .endTime(LocalTime.of(11, 0))
+                .repeatType(RepeatType.WEEK)
+                .repeatCount(1)
+                .repeatEndDate(LocalDate.of(2025, 12, 31))
+                .build();
+    }
+
+    static Event event(long id) {
+        return Event.builder()
+                .id(id)
+                .title("팀 회의 " + id)
+                .allDay(false)
+                .startDate(START_DATE)
+                .endDate(START_DATE)
+                .startDay(DayOfWeek.WEDNESDAY)
+                .endDay(DayOfWeek.WEDNESDAY)
+                .startTime(LocalTime.of(10, 0))
+                .endTime(LocalTime.of(11, 0))
+                .repeatType(RepeatType.WEEK)
+                .repeatCount(1)
+                .build();
+    }
+
+    static EventSeries series(long id) {
+        return new EventSeries(
+                id,
+                "팀 회의 " + id,
+                false,
+                START_DATE,
+                START_DATE,
+                LocalTime.of(10, 0),
+                LocalTime.of(11, 0),
+                RepeatType.WEEK,
+                1,
+                null);
+    }
+
+    // 월별 조회 한 페이지 분량의 응답
+    static List<EventResDto> monthResponses(int size) {
+        List<EventResDto> responses = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            LocalDate date = START_DATE.withDayOfMonth(1 + i % 28);
+            responses.add(new EventResDto((long) i, "팀 회의 " + i, date, date));
+        }
+        return responses;
+    }
+}
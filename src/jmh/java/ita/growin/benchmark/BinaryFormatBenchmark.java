@@ -0,0 +1,69 @@
+package ita.growin.benchmark;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import ita.growin.domain.event.dto.response.EventResDto;
+import ita.growin.global.response.APIResponse;
+import ita.growin.global.response.PageResponse;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+// 월별 조회 응답의 포맷별 인코딩/디코딩 비용 (JSON vs CBOR vs Smile)
+// 응답 크기(바이트)는 setUp에서 한 번 출력한다.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BinaryFormatBenchmark {
+
+    private static final TypeReference<APIResponse<PageResponse<EventResDto>>> RESPONSE_TYPE = new TypeReference<>() {};
+
+    @Param({"20", "100"})
+    private int pageSize;
+
+    @Param({"json", "cbor", "smile"})
+    private String format;
+
+    private ObjectMapper objectMapper;
+    private APIResponse<PageResponse<EventResDto>> response;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() throws Exception {
+        // 애플리케이션의 HTTP 변환기와 같은 구성 (JacksonConfig)
+        JsonFactory factory = switch (format) {
+            case "cbor" -> new CBORFactory();
+            case "smile" -> new SmileFactory();
+            default -> new JsonFactory();
+        };
+        objectMapper = Jackson2ObjectMapperBuilder.json().factory(factory).build();
+
+        response = APIResponse.success(PageResponse.of(new PageImpl<>(
+                BenchmarkFixtures.monthResponses(pageSize), PageRequest.of(0, pageSize), pageSize * 3L)));
+        encoded = objectMapper.writeValueAsBytes(response);
+
+        System.out.printf("%n[payload] pageSize=%d format=%s: %d bytes%n", pageSize, format, encoded.length);
+    }
+
+    @Benchmark
+    public byte[] encode() throws Exception {
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public APIResponse<PageResponse<EventResDto>> decode() throws Exception {
+        return objectMapper.readValue(encoded, RESPONSE_TYPE);
+    }
+}
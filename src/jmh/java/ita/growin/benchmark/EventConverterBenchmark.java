@@ -0,0 +1,57 @@
+package ita.growin.benchmark;
+
+import ita.growin.domain.event.converter.EventConverter;
+import ita.growin.domain.event.dto.request.EventReqDto;
+import ita.growin.domain.event.dto.response.EventDetailResDto;
+import ita.growin.domain.event.dto.response.EventListResDto;
+import ita.growin.domain.event.dto.response.EventResDto;
+import ita.growin.domain.event.entity.Event;
+import ita.growin.domain.event.recurrence.EventOccurrence;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EventConverterBenchmark {
+
+    private EventReqDto request;
+    private Event event;
+    private EventOccurrence occurrence;
+
+    @Setup
+    public void setUp() {
+        request = BenchmarkFixtures.request();
+        event = BenchmarkFixtures.event(1L);
+        occurrence = new EventOccurrence(
+                BenchmarkFixtures.series(1L),
+                BenchmarkFixtures.START_DATE,
+                BenchmarkFixtures.START_DATE);
+    }
+
+    @Benchmark
+    public Event toEntity() {
+        return EventConverter.toEntity(request);
+    }
+
+    @Benchmark
+    public EventDetailResDto toEventDetailResponse() {
+        return EventConverter.toEventDetailResponse(event);
+    }
+
+    @Benchmark
+    public EventResDto toResponse() {
+        return EventConverter.toResponse(occurrence);
+    }
+
+    @Benchmark
+    public EventListResDto toEventListResponse() {
+        return EventConverter.toEventListResponse(occurrence);
+    }
+}
@@ -0,0 +1,47 @@
+package ita.growin.benchmark;
+
+import ita.growin.domain.event.entity.Event;
+import ita.growin.domain.event.enums.RepeatType;
+import ita.growin.domain.event.validator.EventValidator;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EventValidatorBenchmark {
+
+    private Event timedEvent;
+    private String repeatTypeName;
+    private Integer repeatCount;
+
+    @Setup
+    public void setUp() {
+        timedEvent = BenchmarkFixtures.event(1L);
+        repeatTypeName = "YEAR";
+        repeatCount = 3;
+    }
+
+    @Benchmark
+    public Event validateEventDay() {
+        EventValidator.validateEventDay(timedEvent);
+        return timedEvent;
+    }
+
+    // values() 순회 + 문자열 비교
+    @Benchmark
+    public RepeatType repeatTypeFrom() {
+        return RepeatType.from(repeatTypeName);
+    }
+
+    @Benchmark
+    public void validateCount() {
+        RepeatType.WEEK.validateCount(repeatCount);
+    }
+}
@@ -0,0 +1,61 @@
+package ita.growin.benchmark;
+
+import ita.growin.global.ratelimit.RateLimiter;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+// 요청 수 제한의 허용 경로 비용 (RateLimitFilter가 요청마다 추가하는 작업)
+// 예산을 충분히 크게 두어 항상 허용되게 하고, 클라이언트 수(버킷 맵 크기)와 스레드 경합에 따른 차이를 본다.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RateLimiterBenchmark {
+
+    @Param({"1", "10000"})
+    private int clients;
+
+    private RateLimiter rateLimiter;
+    private String[] keys;
+
+    @Setup
+    public void setUp() {
+        // 1ns마다 토큰 1개, 용량 10억: 측정 중 거절되지 않는다.
+        rateLimiter = new RateLimiter(1_000_000_000L, 1_000_000_000d, 100_000);
+        keys = new String[clients];
+        for (int i = 0; i < clients; i++) {
+            keys[i] = "10.0." + (i / 256) + "." + (i % 256);
+            rateLimiter.tryAcquire(keys[i]);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        int next;
+    }
+
+    @Benchmark
+    public long allowed(Cursor cursor) {
+        return rateLimiter.tryAcquire(nextKey(cursor));
+    }
+
+    // 4개 스레드가 같은 버킷(clients=1)이나 여러 버킷에 동시에 CAS
+    @Benchmark
+    @Threads(4)
+    public long allowedContended(Cursor cursor) {
+        return rateLimiter.tryAcquire(nextKey(cursor));
+    }
+
+    private String nextKey(Cursor cursor) {
+        String key = keys[cursor.next];
+        cursor.next = cursor.next + 1 == keys.length ? 0 : cursor.next + 1;
+        return key;
+    }
+}
@@ -0,0 +1,62 @@
+package ita.growin.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import ita.growin.domain.event.dto.response.EventResDto;
+import ita.growin.global.response.APIResponse;
+import ita.growin.global.response.PageResponse;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+// 월별 조회 응답 직렬화 비용: Page 그대로(page) vs PageResponse(compact), 기본 ObjectMapper vs Blackbird
+// 응답 크기(바이트)는 setUp에서 한 번 출력한다.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ResponseSerializationBenchmark {
+
+    @Param({"20", "100"})
+    private int pageSize;
+
+    @Param({"page", "compact"})
+    private String envelope;
+
+    @Param({"default", "blackbird"})
+    private String mapper;
+
+    private ObjectMapper objectMapper;
+    private Object body;
+
+    @Setup
+    public void setUp() throws Exception {
+        // 애플리케이션과 같은 기본 설정 (JavaTimeModule, 날짜 ISO 문자열)
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json();
+        if (mapper.equals("blackbird")) {
+            builder.modulesToInstall(new BlackbirdModule());
+        }
+        objectMapper = builder.build();
+
+        Page<EventResDto> page = new PageImpl<>(
+                BenchmarkFixtures.monthResponses(pageSize), PageRequest.of(0, pageSize), pageSize * 3L);
+        body = envelope.equals("page") ? page : PageResponse.of(page);
+
+        System.out.printf("%n[payload] pageSize=%d envelope=%s: %d bytes%n",
+                pageSize, envelope, objectMapper.writeValueAsBytes(APIResponse.success(body)).length);
+    }
+
+    @Benchmark
+    public byte[] monthPage() throws Exception {
+        return objectMapper.writeValueAsBytes(APIResponse.success(body));
+    }
+}
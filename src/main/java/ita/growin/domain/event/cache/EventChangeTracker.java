@@ -0,0 +1,62 @@
+package ita.growin.domain.event.cache;
+
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.stereotype.Component;
+
+// 달 단위 변경 표시. 조건부 조회(ETag)에서 DB를 읽기 전에 결과가 바뀌었는지 판단하는 데 사용한다.
+// 값은 인스턴스 메모리에만 있으므로 버전 문자열에 기동 시점(epoch)을 붙여 재기동 후 이전 ETag와 겹치지 않게 한다.
+@Component
+public class EventChangeTracker {
+
+	// 이보다 긴 범위는 끝없는 범위로 취급해 달별 갱신 비용을 제한
+	private static final long MAX_TRACKED_MONTHS = 120;
+
+	private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+	private final AtomicLong clock = new AtomicLong();
+	private final Map<YearMonth, Long> monthStamps = new ConcurrentHashMap<>();
+	// 끝없는 범위: 시작 달 → 변경 시점. 키가 커질수록 값도 커지도록 유지해 floorEntry 한 번으로 최댓값을 얻는다.
+	private final ConcurrentSkipListMap<YearMonth, Long> openEndedStamps = new ConcurrentSkipListMap<>();
+
+	public String monthVersion(YearMonth month) {
+		return epoch + "-" + monthStamp(month);
+	}
+
+	// 해당 달의 마지막 변경 시점 (변경될 때마다 커진다)
+	public long monthStamp(YearMonth month) {
+		long stamp = monthStamps.getOrDefault(month, 0L);
+		Map.Entry<YearMonth, Long> openEnded = openEndedStamps.floorEntry(month);
+		if (openEnded != null) {
+			stamp = Math.max(stamp, openEnded.getValue());
+		}
+		return stamp;
+	}
+
+	public void markChanged(Collection<EventMonthRange> ranges) {
+		long stamp = clock.incrementAndGet();
+		for (EventMonthRange range : ranges) {
+			if (range.to() == null || ChronoUnit.MONTHS.between(range.from(), range.to()) > MAX_TRACKED_MONTHS) {
+				markOpenEnded(range.from(), stamp);
+				continue;
+			}
+			for (YearMonth month = range.from(); !month.isAfter(range.to()); month = month.plusMonths(1)) {
+				monthStamps.merge(month, stamp, Math::max);
+			}
+		}
+	}
+
+	private synchronized void markOpenEnded(YearMonth from, long stamp) {
+		Map.Entry<YearMonth, Long> floor = openEndedStamps.floorEntry(from);
+		if (floor != null && floor.getValue() >= stamp) {
+			return;
+		}
+		openEndedStamps.tailMap(from, true).values().removeIf(value -> value <= stamp);
+		openEndedStamps.put(from, stamp);
+	}
+}
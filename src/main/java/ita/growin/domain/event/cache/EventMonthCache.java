@@ -0,0 +1,158 @@
+package ita.growin.domain.event.cache;
+
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import ita.growin.domain.event.dto.response.EventResDto;
+
+// 월별 일정 조회 결과 캐시 (크기 + TTL 제한)
+// 항목은 조회를 시작하기 전의 달 변경 표시(EventChangeTracker)와 함께 저장되고, 읽을 때 표시가 바뀌었으면 버린다.
+// 일정 생성/수정/삭제 시 커밋 이후 해당 일정이 걸친 달의 항목을 지운 뒤 변경 표시를 올린다.
+@Component
+public class EventMonthCache {
+
+	private static final long MAXIMUM_SIZE = 5_000;
+	private static final Duration EXPIRE_AFTER_WRITE = Duration.ofMinutes(5);
+	private static final String CACHE_NAME = "event-month";
+
+	// 달 → 캐시 키. 무효화 시 캐시 전체가 아니라 해당 달의 키만 지운다.
+	// 달 단위 변경은 ConcurrentHashMap.compute 안에서만 하므로 값은 일반 HashSet으로 둔다.
+	private final Map<YearMonth, Set<Key>> keysByMonth = new ConcurrentHashMap<>();
+
+	// 크기·만료로 밀려난 항목은 같은 원자 연산 안에서 색인에서도 지운다.
+	private final Cache<Key, Entry> cache = Caffeine.newBuilder()
+		.maximumSize(MAXIMUM_SIZE)
+		.expireAfterWrite(EXPIRE_AFTER_WRITE)
+		.recordStats()
+		.<Key, Entry>evictionListener((key, entry, cause) -> unindex(key))
+		.build();
+
+	private final LongAdder invalidations = new LongAdder();
+
+	private final EventChangeTracker eventChangeTracker;
+
+	// hit/miss/eviction 통계를 cache.* 메트릭으로, 무효화 건수를 별도 카운터로 노출
+	public EventMonthCache(MeterRegistry meterRegistry, EventChangeTracker eventChangeTracker) {
+		this.eventChangeTracker = eventChangeTracker;
+		CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+		FunctionCounter.builder("cache.invalidations", invalidations, LongAdder::sum)
+			.tag("cache", CACHE_NAME)
+			.description("Entries removed by event writes")
+			.register(meterRegistry);
+	}
+
+	// DB 조회를 Caffeine compute(내부 synchronized) 밖에서 수행해 가상 스레드가 I/O 동안 고정(pinning)되지 않게 한다.
+	// 조회 전에 읽은 변경 표시를 값과 함께 저장하므로, 조회 도중 무효화가 끝나 이전 데이터가 저장되더라도
+	// 다음 읽기에서 표시가 달라 버려진다. (저장 시점과 무관하게 이전 데이터가 새 표시로 응답되지 않는다)
+	public Page<EventResDto> get(YearMonth month, Pageable pageable, Supplier<Page<EventResDto>> loader) {
+		Key key = new Key(month, pageable);
+		long stamp = eventChangeTracker.monthStamp(month);
+		Entry cached = cache.getIfPresent(key);
+		if (cached != null && cached.stamp() == stamp) {
+			return cached.page();
+		}
+
+		Page<EventResDto> loaded = loader.get();
+		cache.asMap().compute(key, (ignored, existing) -> {
+			if (existing != null && existing.stamp() > stamp) {
+				return existing;
+			}
+			index(key);
+			return new Entry(stamp, loaded);
+		});
+		return loaded;
+	}
+
+	public void evict(EventMonthRange range) {
+		evictAll(List.of(range));
+	}
+
+	// 트랜잭션 안이면 커밋 이후, 아니면 즉시 무효화 (여러 범위를 달 색인 한 번 순회로 처리)
+	// 무효화와 함께 해당 달의 변경 표시(EventChangeTracker)도 갱신한다.
+	public void evictAll(Collection<EventMonthRange> ranges) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			evictNow(ranges);
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				evictNow(ranges);
+			}
+		});
+	}
+
+	// hit/miss/eviction(크기·만료) 통계
+	public CacheStats stats() {
+		return cache.stats();
+	}
+
+	// 쓰기로 인한 무효화 건수
+	public long invalidationCount() {
+		return invalidations.sum();
+	}
+
+	// 항목을 먼저 지우고 변경 표시를 올린다. 새 ETag가 보이는 시점에는 해당 달의 이전 항목이 남아 있지 않고,
+	// 그 뒤에 저장되는 진행 중이던 조회 결과는 이전 표시를 달고 있어 읽을 때 버려진다.
+	private void evictNow(Collection<EventMonthRange> ranges) {
+		for (YearMonth month : List.copyOf(keysByMonth.keySet())) {
+			if (ranges.stream().noneMatch(range -> range.contains(month))) {
+				continue;
+			}
+			Set<Key> keys = keysByMonth.remove(month);
+			if (keys == null) {
+				continue;
+			}
+			for (Key key : keys) {
+				if (cache.asMap().remove(key) != null) {
+					invalidations.increment();
+				}
+			}
+		}
+		eventChangeTracker.markChanged(ranges);
+	}
+
+	private void index(Key key) {
+		keysByMonth.compute(key.month(), (month, keys) -> {
+			Set<Key> indexed = keys == null ? new HashSet<>() : keys;
+			indexed.add(key);
+			return indexed;
+		});
+	}
+
+	private void unindex(Key key) {
+		keysByMonth.computeIfPresent(key.month(), (month, keys) -> {
+			keys.remove(key);
+			return keys.isEmpty() ? null : keys;
+		});
+	}
+
+	// 일정이 아직 사용자와 연결되어 있지 않아 조회 결과가 사용자별로 나뉘지 않는다. 연관관계 추가 시 userId를 키에 포함한다.
+	private record Key(YearMonth month, Pageable pageable) {
+	}
+
+	// stamp: 조회를 시작하기 전에 읽은 해당 달의 변경 표시
+	private record Entry(long stamp, Page<EventResDto> page) {
+	}
+}
@@ -0,0 +1,25 @@
+package ita.growin.domain.event.cache;
+
+import java.time.YearMonth;
+
+import ita.growin.domain.event.entity.Event;
+
+// 일정이 월별 조회 결과에 영향을 주는 달의 범위 (to == null 이면 끝없이 반복)
+public record EventMonthRange(
+	YearMonth from,
+	YearMonth to
+) {
+
+	public static EventMonthRange of(Event event) {
+		YearMonth from = YearMonth.from(event.getStartDate());
+		if (!event.getRepeatType().isRepeating()) {
+			return new EventMonthRange(from, YearMonth.from(event.getEndDate()));
+		}
+		return new EventMonthRange(from,
+			event.getRepeatEndDate() == null ? null : YearMonth.from(event.getRepeatEndDate()));
+	}
+
+	public boolean contains(YearMonth month) {
+		return !month.isBefore(from) && (to == null || !month.isAfter(to));
+	}
+}
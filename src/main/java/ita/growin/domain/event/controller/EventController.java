@@ -1,28 +1,61 @@
 package ita.growin.domain.event.controller;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.time.LocalDate;
+import java.util.List;
 
 import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import ita.growin.domain.event.dto.request.EventBatchCreateReqDto;
+import ita.growin.domain.event.dto.request.EventBatchDeleteReqDto;
+import ita.growin.domain.event.dto.request.EventBatchUpdateReqDto;
+import ita.growin.domain.event.dto.request.EventPatchReqDto;
 import ita.growin.domain.event.dto.request.EventReqDto;
+import ita.growin.domain.event.dto.response.EventChangesResDto;
 import ita.growin.domain.event.dto.response.EventDetailResDto;
+import ita.growin.domain.event.dto.response.EventImportResDto;
 import ita.growin.domain.event.dto.response.EventListResDto;
 import ita.growin.domain.event.dto.response.EventResDto;
+import ita.growin.domain.event.dto.response.EventWithTasksResDto;
+import ita.growin.domain.event.ical.ICalendarWriter;
+import ita.growin.domain.event.recurrence.EventSeries;
+import ita.growin.domain.event.service.EventImportService;
 import ita.growin.domain.event.service.EventService;
+import ita.growin.domain.event.validator.EventValidator;
+import ita.growin.global.exception.EventException;
+import ita.growin.global.exception.errorcode.EventErrorCode;
 import ita.growin.global.response.APIResponse;
+import ita.growin.global.response.ConditionalResponse;
+import ita.growin.global.response.CursorSlice;
+import ita.growin.global.response.PageResponse;
 import jakarta.validation.Valid;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
@@ -33,7 +66,12 @@ import lombok.RequiredArgsConstructor;
 @Tag(name = "일정", description = "일정 관련 API")
 public class EventController {
 
+	private static final MediaType APPLICATION_NDJSON = MediaType.parseMediaType("application/x-ndjson");
+	private static final MediaType TEXT_CALENDAR = MediaType.parseMediaType("text/calendar;charset=UTF-8");
+
 	private final EventService eventService;
+	private final EventImportService eventImportService;
+	private final ObjectMapper objectMapper;
 
 	@PostMapping
 	@Operation(summary = "일정 생성 API",
@@ -42,11 +80,41 @@ public class EventController {
     	요일(startDay, endDay)은 아래와 같은 문자열 중 하나로 입력해야 합니다:
     	- MONDAY, TUESDAY, WEDNESDAY, THURSDAY, FRIDAY, SATURDAY, SUNDAY
     """)
-	public APIResponse<EventResDto> createEvent(@Valid  @RequestBody EventReqDto request) {
+	public APIResponse<EventResDto> createEvent(
+		@Valid @RequestBody EventReqDto request) {
 		EventResDto response = eventService.createEvent(request);
 		return APIResponse.success(response);
 	}
 
+	@PostMapping("/batch")
+	@Operation(summary = "일정 일괄 생성 API",
+		description = """
+    	여러 일정을 한 번에 생성합니다. (최대 1000건)
+    	모든 일정을 먼저 검증하고, 하나라도 실패하면 아무것도 저장하지 않습니다.
+    """)
+	public APIResponse<List<EventResDto>> createEvents(@Valid @RequestBody EventBatchCreateReqDto request) {
+		List<EventResDto> response = eventService.createEvents(request.events());
+		return APIResponse.success(response);
+	}
+
+	@PutMapping("/batch")
+	@Operation(summary = "일정 일괄 수정 API",
+		description = """
+    	여러 일정을 한 번에 수정합니다. (최대 1000건)
+    	모든 항목을 먼저 검증하고, 하나라도 실패하면 아무것도 수정하지 않습니다.
+    """)
+	public APIResponse<List<EventResDto>> updateEvents(@Valid @RequestBody EventBatchUpdateReqDto request) {
+		List<EventResDto> response = eventService.updateEvents(request.events());
+		return APIResponse.success(response);
+	}
+
+	@DeleteMapping("/batch")
+	@Operation(summary = "일정 일괄 삭제 API", description = "여러 일정을 한 번에 삭제합니다. (최대 1000건)")
+	public APIResponse<Void> deleteEvents(@Valid @RequestBody EventBatchDeleteReqDto request) {
+		eventService.deleteEvents(request.eventIds());
+		return APIResponse.success(null);
+	}
+
 	@PutMapping("/{eventId}")
 	@Operation(
 		summary = "일정 수정 API",
@@ -63,6 +131,22 @@ public class EventController {
 		return APIResponse.success(response);
 	}
 
+	@PatchMapping("/{eventId}")
+	@Operation(
+		summary = "일정 부분 수정 API",
+		description = """
+    	값을 보낸 필드만 수정합니다. (null 또는 생략한 필드는 그대로 유지)
+    	version(일정 상세 조회 응답의 version)을 함께 보내면, 그 사이 다른 요청이 일정을 수정했을 때
+    	409 EVENT_VERSION_CONFLICT로 거절됩니다.
+    """
+	)
+	public APIResponse<EventResDto> patchEvent(
+		@PathVariable long eventId,
+		@Valid @RequestBody EventPatchReqDto request) {
+		EventResDto response = eventService.patchEvent(eventId, request);
+		return APIResponse.success(response);
+	}
+
 	@DeleteMapping("/{eventId}")
 	@Operation(summary = "일정 삭제 API", description = "일정을 삭제합니다.")
 	public APIResponse<Void> deleteEvent(
@@ -71,21 +155,50 @@ public class EventController {
 		return APIResponse.success(null);
 	}
 
-	@GetMapping("/{eventId}")
-	@Operation(summary = "일정 상세 조회 API", description = "일정 ID로 상세 일정을 조회합니다.")
-	public APIResponse<EventDetailResDto> getEvent(@PathVariable long eventId) {
-		EventDetailResDto response = eventService.getEventDetail(eventId);
+	@GetMapping("/changes")
+	@Operation(summary = "일정 변경 동기화 API",
+		description = """
+    	since 토큰 이후 생성/수정/삭제된 일정만 조회합니다. (삭제는 type=DELETE와 eventId만 포함)
+    	첫 동기화는 since 없이 요청하고, 이후에는 응답의 nextToken을 저장해 두었다가 그대로 전달합니다.
+    	hasNext가 true이면 nextToken으로 바로 이어서 조회합니다. size는 최대 500입니다.
+    """
+	)
+	public APIResponse<EventChangesResDto> getChanges(
+		@RequestParam(required = false) String since,
+		@RequestParam(defaultValue = "200") int size) {
+		EventChangesResDto response = eventService.getChangesSince(since, size);
 		return APIResponse.success(response);
 	}
 
+	@GetMapping("/{eventId}")
+	@Operation(summary = "일정 상세 조회 API",
+		description = """
+    	일정 ID로 상세 일정을 조회합니다.
+    	응답의 ETag를 If-None-Match로 보내면 변경이 없을 때 304 Not Modified를 반환합니다.
+    """
+	)
+	public ResponseEntity<APIResponse<EventDetailResDto>> getEvent(@PathVariable long eventId, WebRequest request) {
+		// ETag는 본문과 같은 트랜잭션에서 읽은 행의 버전으로 만든다. (조회는 대부분 2차 캐시에서 끝난다)
+		EventDetailResDto detail = eventService.getEventDetail(eventId);
+		return ConditionalResponse.of(request, "e" + eventId + "-" + detail.version(),
+			() -> APIResponse.success(detail));
+	}
+
 	@GetMapping("/month/{year}/{month}")
-	@Operation(summary = "월별 전체 일정 조회 API", description = "해당 달의 전체 일정을 조회합니다.")
-	public APIResponse<Page<EventResDto>> getEventsByMonth(
+	@Operation(summary = "월별 전체 일정 조회 API",
+		description = """
+    	해당 달의 전체 일정을 조회합니다.
+    	응답의 ETag를 If-None-Match로 보내면 변경이 없을 때 304 Not Modified를 반환합니다.
+    """
+	)
+	public ResponseEntity<APIResponse<PageResponse<EventResDto>>> getEventsByMonth(
 		@PathVariable int year,
 		@PathVariable int month,
-		@ParameterObject Pageable pageable) {
-		Page<EventResDto> response = eventService.getEventsByMonth(year, month, pageable);
-		return APIResponse.success(response);
+		@ParameterObject Pageable pageable,
+		WebRequest request) {
+		String version = eventService.getMonthVersion(year, month, pageable);
+		return ConditionalResponse.of(request, version,
+			() -> APIResponse.success(PageResponse.of(eventService.getEventsByMonth(year, month, pageable))));
 	}
 
 	@GetMapping("/day/{date}")
@@ -95,10 +208,141 @@ public class EventController {
     	date는 YYYY-MM-DD 형식 (예: 2025-10-31)으로 입력해야 합니다.
     """
 	)
-	public APIResponse<Page<EventListResDto>> getEventsByDate(
+	public APIResponse<PageResponse<EventListResDto>> getEventsByDate(
 		@PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
 		@ParameterObject Pageable pageable) {
 		Page<EventListResDto> response = eventService.getEventsByDate(date, pageable);
+		return APIResponse.success(PageResponse.of(response));
+	}
+
+	@GetMapping("/month/{year}/{month}/tasks")
+	@Operation(summary = "월별 일정 + 할 일 조회 API", description = "해당 달의 일정을 각 일정의 할 일 목록과 함께 조회합니다.")
+	public APIResponse<PageResponse<EventWithTasksResDto>> getEventsWithTasksByMonth(
+		@PathVariable int year,
+		@PathVariable int month,
+		@ParameterObject Pageable pageable) {
+		Page<EventWithTasksResDto> response = eventService.getEventsWithTasksByMonth(year, month, pageable);
+		return APIResponse.success(PageResponse.of(response));
+	}
+
+	@GetMapping("/day/{date}/tasks")
+	@Operation(summary = "날짜별 일정 + 할 일 조회 API",
+		description = """
+    	해당 날짜의 일정을 각 일정의 할 일 목록과 함께 조회합니다.
+    	date는 YYYY-MM-DD 형식 (예: 2025-10-31)으로 입력해야 합니다.
+    """
+	)
+	public APIResponse<PageResponse<EventWithTasksResDto>> getEventsWithTasksByDate(
+		@PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+		@ParameterObject Pageable pageable) {
+		Page<EventWithTasksResDto> response = eventService.getEventsWithTasksByDate(date, pageable);
+		return APIResponse.success(PageResponse.of(response));
+	}
+
+	@GetMapping("/month/{year}/{month}/slice")
+	@Operation(summary = "월별 일정 커서 조회 API",
+		description = """
+    	해당 달의 일정을 커서 기반으로 조회합니다. 전체 개수는 계산하지 않습니다.
+    	첫 조회는 cursor 없이 요청하고, 이후에는 응답의 nextCursor를 그대로 전달합니다.
+    """
+	)
+	public APIResponse<CursorSlice<EventResDto>> getEventSliceByMonth(
+		@PathVariable int year,
+		@PathVariable int month,
+		@RequestParam(required = false) String cursor,
+		@RequestParam(defaultValue = "20") int size) {
+		CursorSlice<EventResDto> response = eventService.getEventSliceByMonth(year, month, cursor, size);
 		return APIResponse.success(response);
 	}
-}
\ No newline at end of file
+
+	@GetMapping("/day/{date}/slice")
+	@Operation(summary = "날짜별 일정 커서 조회 API",
+		description = """
+    	해당 날짜의 일정을 커서 기반으로 조회합니다. 전체 개수는 계산하지 않습니다.
+    	date는 YYYY-MM-DD 형식 (예: 2025-10-31)으로 입력해야 합니다.
+    """
+	)
+	public APIResponse<CursorSlice<EventListResDto>> getEventSliceByDate(
+		@PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+		@RequestParam(required = false) String cursor,
+		@RequestParam(defaultValue = "20") int size) {
+		CursorSlice<EventListResDto> response = eventService.getEventSliceByDate(date, cursor, size);
+		return APIResponse.success(response);
+	}
+
+	@GetMapping("/range")
+	@Operation(summary = "기간 일정 스트리밍 조회 API",
+		description = """
+    	from ~ to 기간(최대 1년)의 일정을 한 줄에 하나씩 NDJSON으로 스트리밍합니다.
+    	from, to는 YYYY-MM-DD 형식으로 입력해야 합니다.
+    """
+	)
+	public ResponseEntity<StreamingResponseBody> streamEventsInRange(
+		@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+		@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+		// 응답이 시작되기 전에 검증해 에러를 APIResponse 형식으로 반환
+		EventValidator.validateQueryRange(from, to);
+
+		StreamingResponseBody body = outputStream ->
+			eventService.streamEventsInRange(from, to, event -> writeLine(outputStream, event));
+		return ResponseEntity.ok()
+			.contentType(APPLICATION_NDJSON)
+			.body(body);
+	}
+
+	@GetMapping("/export.ics")
+	@Operation(summary = "일정 내보내기 API",
+		description = """
+    	전체 일정을 iCalendar(.ics, RFC 5545) 파일로 내보냅니다.
+    	반복 일정은 전개하지 않고 RRULE로 내보냅니다.
+    """
+	)
+	public ResponseEntity<StreamingResponseBody> exportCalendar() {
+		StreamingResponseBody body = outputStream -> {
+			ICalendarWriter calendar = new ICalendarWriter(outputStream);
+			calendar.begin();
+			eventService.streamAllEvents(series -> writeEvent(calendar, series));
+			calendar.end();
+		};
+		return ResponseEntity.ok()
+			.contentType(TEXT_CALENDAR)
+			.header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename("growin.ics").build().toString())
+			.body(body);
+	}
+
+	@PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+	@Operation(summary = "일정 가져오기 API",
+		description = """
+    	iCalendar(.ics) 파일의 VEVENT를 일정으로 가져옵니다. (최대 100MB)
+    	변환/검증에 실패한 일정은 건너뛰고 줄 번호와 사유를 errors로 반환합니다.
+    	일정은 500건씩 나누어 저장하며, 저장에 실패한 묶음은 failed에 더하고 그 줄 범위를 errors로 반환합니다. (나머지 묶음은 그대로 저장)
+    	반복 규칙은 FREQ(DAILY/WEEKLY/MONTHLY/YEARLY), INTERVAL, UNTIL, COUNT만 지원합니다.
+    """
+	)
+	public APIResponse<EventImportResDto> importCalendar(@RequestPart("file") MultipartFile file) throws IOException {
+		if (file.isEmpty()) {
+			throw new EventException(EventErrorCode.INVALID_CALENDAR_FILE);
+		}
+		try (InputStream inputStream = file.getInputStream()) {
+			EventImportResDto response = eventImportService.importCalendar(inputStream);
+			return APIResponse.success(response);
+		}
+	}
+
+	private void writeEvent(ICalendarWriter calendar, EventSeries series) {
+		try {
+			calendar.write(series);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private void writeLine(OutputStream outputStream, EventResDto event) {
+		try {
+			outputStream.write(objectMapper.writeValueAsBytes(event));
+			outputStream.write('\n');
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+}
@@ -4,9 +4,15 @@ import ita.growin.domain.event.dto.request.EventReqDto;
 import ita.growin.domain.event.dto.response.EventDetailResDto;
 import ita.growin.domain.event.dto.response.EventListResDto;
 import ita.growin.domain.event.dto.response.EventResDto;
+import ita.growin.domain.event.dto.response.EventWithTasksResDto;
 import ita.growin.domain.event.entity.Event;
+import ita.growin.domain.event.recurrence.EventOccurrence;
+import ita.growin.domain.event.recurrence.EventSeries;
+import ita.growin.domain.task.dto.response.TaskResDto;
 import lombok.experimental.UtilityClass;
 
+import java.util.List;
+
 @UtilityClass
 public class EventConverter {
 
@@ -39,6 +45,7 @@ public class EventConverter {
 			.repeatType(event.getRepeatType())
 			.repeatCount(event.getRepeatCount())
 			.repeatEndDate(event.getRepeatEndDate())
+			.version(event.getVersion())
 			.build();
 	}
 
@@ -60,4 +67,39 @@ public class EventConverter {
 			.endTime(event.getEndTime())
 			.build();
 	}
+
+	public static EventResDto toResponse(EventOccurrence occurrence) {
+		EventSeries series = occurrence.series();
+		return EventResDto.builder()
+			.eventId(series.id())
+			.title(series.title())
+			.startDate(occurrence.startDate())
+			.endDate(occurrence.endDate())
+			.build();
+	}
+
+	public static EventWithTasksResDto toEventWithTasksResponse(EventOccurrence occurrence, List<TaskResDto> tasks) {
+		EventSeries series = occurrence.series();
+		return EventWithTasksResDto.builder()
+			.eventId(series.id())
+			.title(series.title())
+			.allDay(series.allDay())
+			.startDate(occurrence.startDate())
+			.endDate(occurrence.endDate())
+			.startTime(series.startTime())
+			.endTime(series.endTime())
+			.tasks(tasks)
+			.build();
+	}
+
+	public static EventListResDto toEventListResponse(EventOccurrence occurrence) {
+		EventSeries series = occurrence.series();
+		return EventListResDto.builder()
+			.eventId(series.id())
+			.title(series.title())
+			.allDay(series.allDay())
+			.startTime(series.startTime())
+			.endTime(series.endTime())
+			.build();
+	}
 }
@@ -0,0 +1,21 @@
+package ita.growin.domain.event.dto.request;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+@Schema(description = "일정 일괄 생성 요청 DTO")
+public record EventBatchCreateReqDto(
+
+	@Schema(description = "생성할 일정 목록 (최대 1000건)")
+	@NotEmpty(message = "생성할 일정이 없습니다.")
+	@Size(max = EventBatchCreateReqDto.MAX_BATCH_SIZE, message = "한 번에 최대 1000건까지 처리할 수 있습니다.")
+	List<@Valid @NotNull EventReqDto> events
+) {
+
+	public static final int MAX_BATCH_SIZE = 1000;
+}
@@ -0,0 +1,49 @@
+package ita.growin.domain.event.dto.request;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.Base64;
+
+import ita.growin.domain.event.recurrence.EventOccurrence;
+import ita.growin.global.exception.EventException;
+import ita.growin.global.exception.errorcode.EventErrorCode;
+
+// 커서 조회 위치: 마지막으로 내려준 발생 일정의 (시작일, 일정 ID). 클라이언트에는 불투명한 문자열로 전달한다.
+public record EventCursor(
+	LocalDate startDate,
+	long eventId
+) {
+
+	private static final char SEPARATOR = '_';
+
+	public static EventCursor of(EventOccurrence occurrence) {
+		return new EventCursor(occurrence.startDate(), occurrence.series().id());
+	}
+
+	public static EventCursor decode(String value) {
+		if (value == null || value.isBlank()) {
+			return null;
+		}
+		try {
+			String decoded = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+			int separatorIndex = decoded.indexOf(SEPARATOR);
+			return new EventCursor(
+				LocalDate.parse(decoded.substring(0, separatorIndex)),
+				Long.parseLong(decoded.substring(separatorIndex + 1)));
+		} catch (IllegalArgumentException | DateTimeException | IndexOutOfBoundsException e) {
+			throw new EventException(EventErrorCode.INVALID_CURSOR);
+		}
+	}
+
+	public String encode() {
+		String raw = startDate.toString() + SEPARATOR + eventId;
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+
+	// 발생 일정이 이 커서보다 뒤에 있는지 (시작일 → 일정 ID 순)
+	public boolean precedes(EventOccurrence occurrence) {
+		int compared = occurrence.startDate().compareTo(startDate);
+		return compared > 0 || (compared == 0 && occurrence.series().id() > eventId);
+	}
+}
@@ -0,0 +1,54 @@
+package ita.growin.domain.event.dto.request;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import ita.growin.domain.event.enums.RepeatType;
+import jakarta.validation.constraints.Pattern;
+import lombok.Builder;
+
+// 값이 있는(null이 아닌) 필드만 수정된다.
+@Builder
+@Schema(description = "일정 부분 수정 요청 DTO")
+public record EventPatchReqDto(
+
+	@Schema(description = "일정명", example = "팀 회의")
+	@Pattern(regexp = "(?s).*\\S.*", message = "일정명은 빈칸일 수 없습니다.")
+	String title,
+
+	@Schema(description = "하루 종일 여부", example = "false")
+	Boolean allDay,
+
+	@Schema(description = "시작 날짜 (YYYY-MM-DD)", example = "2025-11-05")
+	LocalDate startDate,
+
+	@Schema(description = "종료 날짜 (YYYY-MM-DD)", example = "2025-11-05")
+	LocalDate endDate,
+
+	@Schema(description = "시작 요일", example = "WEDNESDAY")
+	DayOfWeek startDay,
+
+	@Schema(description = "종료 요일", example = "WEDNESDAY")
+	DayOfWeek endDay,
+
+	@Schema(description = "시작 시간", example = "10:00")
+	LocalTime startTime,
+
+	@Schema(description = "종료 시간", example = "11:00")
+	LocalTime endTime,
+
+	@Schema(description = "반복 타입 (NONE으로 바꾸면 반복 횟수/종료 날짜도 지워집니다)", example = "WEEK")
+	RepeatType repeatType,
+
+	@Schema(description = "반복 횟수", example = "3")
+	Integer repeatCount,
+
+	@Schema(description = "반복 종료 날짜 (YYYY-MM-DD)", example = "2025-12-31")
+	LocalDate repeatEndDate,
+
+	@Schema(description = "클라이언트가 알고 있는 일정 버전. 있으면 버전이 다를 때 409로 거절됩니다.", example = "3")
+	Long version
+) {
+}
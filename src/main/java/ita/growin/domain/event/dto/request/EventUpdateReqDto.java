@@ -0,0 +1,19 @@
+package ita.growin.domain.event.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+
+@Schema(description = "일정 일괄 수정 항목 DTO")
+public record EventUpdateReqDto(
+
+	@Schema(description = "수정할 일정 ID", example = "1")
+	@NotNull(message = "일정 ID는 필수 값입니다.")
+	Long eventId,
+
+	@Schema(description = "수정 내용")
+	@Valid
+	@NotNull(message = "수정 내용은 필수 값입니다.")
+	EventReqDto event
+) {
+}
@@ -0,0 +1,65 @@
+package ita.growin.domain.event.dto.response;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import ita.growin.domain.event.enums.EventChangeType;
+import ita.growin.domain.event.enums.RepeatType;
+
+// 삭제(툼스톤)는 changeId, eventId, type만 내려간다.
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "일정 변경 DTO")
+public record EventChangeResDto(
+
+	@Schema(description = "변경 토큰 (커밋 순서대로 증가)", example = "1024")
+	Long changeId,
+
+	@Schema(description = "일정 ID", example = "1")
+	Long eventId,
+
+	@Schema(description = "변경 종류 (UPSERT, DELETE)", example = "UPSERT")
+	EventChangeType type,
+
+	@Schema(description = "일정명", example = "팀 회의")
+	String title,
+
+	@Schema(description = "하루 종일 여부", example = "false")
+	Boolean allDay,
+
+	@Schema(description = "시작 날짜 (YYYY-MM-DD)", example = "2025-11-05")
+	LocalDate startDate,
+
+	@Schema(description = "종료 날짜 (YYYY-MM-DD)", example = "2025-11-05")
+	LocalDate endDate,
+
+	@Schema(description = "시작 시간", example = "10:00")
+	LocalTime startTime,
+
+	@Schema(description = "종료 시간", example = "11:00")
+	LocalTime endTime,
+
+	@Schema(description = "반복 타입", example = "WEEK")
+	RepeatType repeatType,
+
+	@Schema(description = "반복 횟수", example = "3")
+	Integer repeatCount,
+
+	@Schema(description = "반복 종료 날짜 (YYYY-MM-DD)", example = "2025-12-31")
+	LocalDate repeatEndDate,
+
+	@Schema(description = "일정 버전", example = "3")
+	Long version
+) {
+
+	// 로그 이후 일정이 삭제되었다면 (조인 결과가 비어 있음) 삭제로 내려보낸다.
+	public EventChangeResDto resolve() {
+		if (type == EventChangeType.DELETE || title == null) {
+			return new EventChangeResDto(changeId, eventId, EventChangeType.DELETE,
+				null, null, null, null, null, null, null, null, null, null);
+		}
+		return this;
+	}
+}
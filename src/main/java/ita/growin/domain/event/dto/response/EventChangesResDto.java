@@ -0,0 +1,12 @@
+package ita.growin.domain.event.dto.response;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "일정 변경 목록 응답")
+public record EventChangesResDto(
+	@Schema(description = "변경 목록 (같은 일정은 마지막 변경만 포함)") List<EventChangeResDto> changes,
+	@Schema(description = "다음 조회에 since로 전달할 토큰 (변경이 없어도 항상 포함)", example = "1024") String nextToken,
+	@Schema(description = "이어서 받을 변경이 더 있는지 여부") boolean hasNext) {
+}
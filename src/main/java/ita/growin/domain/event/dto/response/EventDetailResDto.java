@@ -46,7 +46,10 @@ public record EventDetailResDto(
 	Integer repeatCount,
 
 	@Schema(description = "반복 종료 날짜 (YYYY-MM-DD)", example = "2025-12-31")
-	LocalDate repeatEndDate
+	LocalDate repeatEndDate,
+
+	@Schema(description = "일정 버전 (부분 수정 시 version으로 전달)", example = "3")
+	Long version
 
 	// @Schema(description = "투두 목록")
 	// List<TodoDto> todos;
@@ -0,0 +1,30 @@
+package ita.growin.domain.event.dto.response;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "일정 가져오기 결과 DTO")
+public record EventImportResDto(
+
+	@Schema(description = "저장된 일정 수", example = "12840")
+	int imported,
+
+	@Schema(description = "건너뛴 일정 수", example = "3")
+	int failed,
+
+	@Schema(description = "건너뛴 일정의 줄 번호와 사유 (최대 100건)")
+	List<LineError> errors,
+
+	@Schema(description = "처리 시간 (ms)", example = "4210")
+	long elapsedMillis,
+
+	@Schema(description = "초당 저장된 일정 수", example = "3049.9")
+	double eventsPerSecond
+) {
+
+	public record LineError(
+		@Schema(description = ".ics 파일의 줄 번호", example = "1024") int line,
+		@Schema(description = "사유", example = "지원하지 않는 반복 규칙입니다: BYDAY=MO,WE") String message) {
+	}
+}
@@ -0,0 +1,38 @@
+package ita.growin.domain.event.dto.response;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import ita.growin.domain.task.dto.response.TaskResDto;
+import lombok.Builder;
+
+@Builder
+@Schema(description = "할 일을 포함한 일정 응답 DTO")
+public record EventWithTasksResDto(
+	@Schema(description = "일정 ID", example = "1")
+	Long eventId,
+
+	@Schema(description = "일정명", example = "팀 회의")
+	String title,
+
+	@Schema(description = "하루 종일 여부", example = "false")
+	Boolean allDay,
+
+	@Schema(description = "시작 날짜 (YYYY-MM-DD)", example = "2025-11-05")
+	LocalDate startDate,
+
+	@Schema(description = "종료 날짜 (YYYY-MM-DD)", example = "2025-11-05")
+	LocalDate endDate,
+
+	@Schema(description = "시작 시간", example = "10:00")
+	LocalTime startTime,
+
+	@Schema(description = "종료 시간", example = "11:00")
+	LocalTime endTime,
+
+	@Schema(description = "할 일 목록")
+	List<TaskResDto> tasks
+) {
+}
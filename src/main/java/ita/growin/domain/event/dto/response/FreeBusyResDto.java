@@ -0,0 +1,25 @@
+package ita.growin.domain.event.dto.response;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "바쁜 시간 조회 DTO")
+public record FreeBusyResDto(
+
+	@Schema(description = "조회 시작 (포함)", example = "2025-11-01T00:00:00")
+	LocalDateTime from,
+
+	@Schema(description = "조회 끝 (미포함)", example = "2025-12-01T00:00:00")
+	LocalDateTime to,
+
+	@Schema(description = "겹치는 일정을 합친 바쁜 구간 목록 (시작 순)")
+	List<BusyInterval> busy
+) {
+
+	public record BusyInterval(
+		@Schema(description = "시작 (포함)", example = "2025-11-05T10:00:00") LocalDateTime start,
+		@Schema(description = "끝 (미포함)", example = "2025-11-05T11:30:00") LocalDateTime end) {
+	}
+}
@@ -1,5 +1,6 @@
 package ita.growin.domain.event.entity;
 
+import ita.growin.domain.event.dto.request.EventPatchReqDto;
 import ita.growin.domain.event.dto.request.EventReqDto;
 import ita.growin.domain.event.enums.RepeatType;
 import ita.growin.domain.task.entity.Task;
@@ -10,6 +11,10 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.DayOfWeek;
 import java.time.LocalDate;
@@ -18,14 +23,26 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@Table(indexes = {
+    // 기간 조회: 반복 타입별로 시작일 범위를 좁힌 뒤 종료일/반복 종료일은 인덱스 안에서 거른다.
+    @Index(name = "idx_event_repeat_type_start_date",
+        columnList = "repeat_type, start_date, end_date, repeat_end_date")
+})
+// 부분 수정 시 바뀐 컬럼만 UPDATE한다.
+@DynamicUpdate
+// 단건 조회(findById)는 2차 캐시(hibernate-jcache.conf의 event 영역)에서 먼저 찾는다.
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "event")
 @Getter
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 public class Event {
 
+    // IDENTITY는 INSERT마다 키를 받아와야 해 배치 INSERT가 불가능하므로 pooled 시퀀스(MySQL은 테이블로 대체)를 사용한다.
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "event_seq_generator")
+    @SequenceGenerator(name = "event_seq_generator", sequenceName = "event_seq", allocationSize = 50)
     @Column(name = "event_id")
     private Long id;
 
@@ -61,6 +78,9 @@ public class Event {
 
     private LocalDate repeatEndDate;
 
+    // 엔티티 탐색으로 여러 일정의 할 일을 초기화할 때 IN 조회로 묶는다.
+    @BatchSize(size = 100)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "event-tasks")
     @OneToMany(mappedBy = "event", fetch = FetchType.LAZY, cascade = CascadeType.ALL)
     private List<Task> tasks = new ArrayList<>();
 
@@ -68,6 +88,10 @@ public class Event {
     @ManyToOne(fetch = FetchType.LAZY)
     private User user;
 
+    // 수정될 때마다 증가 (ETag, 낙관적 락)
+    @Version
+    private Long version;
+
     public void clearTimeIfAllDay() {
         if (Boolean.TRUE.equals(allDay)) {
             this.startTime = null;
@@ -90,4 +114,24 @@ public class Event {
 
         clearTimeIfAllDay();
     }
+
+    public void patch(EventPatchReqDto request) {
+        if (request.title() != null) this.title = request.title();
+        if (request.allDay() != null) this.allDay = request.allDay();
+        if (request.startDate() != null) this.startDate = request.startDate();
+        if (request.endDate() != null) this.endDate = request.endDate();
+        if (request.startDay() != null) this.startDay = request.startDay();
+        if (request.endDay() != null) this.endDay = request.endDay();
+        if (request.startTime() != null) this.startTime = request.startTime();
+        if (request.endTime() != null) this.endTime = request.endTime();
+        if (request.repeatType() != null) this.repeatType = request.repeatType();
+        if (request.repeatCount() != null) this.repeatCount = request.repeatCount();
+        if (request.repeatEndDate() != null) this.repeatEndDate = request.repeatEndDate();
+
+        if (this.repeatType == RepeatType.NONE) {
+            this.repeatCount = null;
+            this.repeatEndDate = null;
+        }
+        clearTimeIfAllDay();
+    }
 }
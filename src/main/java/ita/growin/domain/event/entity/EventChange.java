@@ -0,0 +1,44 @@
+package ita.growin.domain.event.entity;
+
+import ita.growin.domain.event.enums.EventChangeType;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 일정 변경 로그 (델타 동기화용). 행은 EventChangeRepository의 INSERT ... SELECT로만 기록한다. (배치 작업도 한 문장)
+// 변경 토큰은 id(INSERT 시점 발급)가 아니라 커밋 이후 발급하는 seq다. id 순서는 커밋 순서와 달라
+// 늦게 커밋된 트랜잭션의 변경을 이미 지나간 토큰 뒤에 끼워 넣을 수 있기 때문이다.
+@Entity
+@Table(name = "event_change", indexes = {
+    @Index(name = "idx_event_change_seq", columnList = "seq"),
+    @Index(name = "idx_event_change_batch", columnList = "batch")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class EventChange {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "event_change_id")
+    private Long id;
+
+    @Column(nullable = false)
+    private Long eventId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private EventChangeType type;
+
+    @Column(nullable = false)
+    private LocalDateTime changedAt;
+
+    // 같은 트랜잭션에서 기록한 행 묶음 (토큰 발급 단위)
+    @Column(nullable = false, length = 36)
+    private String batch;
+
+    // 변경 토큰. 커밋 이후 EventChangePublisher가 발급하며 그 전에는 null이라 조회되지 않는다.
+    private Long seq;
+}
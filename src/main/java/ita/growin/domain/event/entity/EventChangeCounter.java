@@ -0,0 +1,34 @@
+package ita.growin.domain.event.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 마지막으로 발급한 변경 토큰 (행 하나). 발급하는 트랜잭션이 이 행을 잠그고 진행하므로
+// 토큰 발급이 인스턴스와 관계없이 한 번에 하나씩, 커밋 순서대로 이루어진다.
+@Entity
+@Table(name = "event_change_counter")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class EventChangeCounter {
+
+    public static final long ID = 1L;
+
+    @Id
+    @Column(name = "event_change_counter_id")
+    private Long id;
+
+    @Column(nullable = false)
+    private long lastSeq;
+
+    public static EventChangeCounter first() {
+        EventChangeCounter counter = new EventChangeCounter();
+        counter.id = ID;
+        return counter;
+    }
+
+    public void advanceTo(long seq) {
+        lastSeq = Math.max(lastSeq, seq);
+    }
+}
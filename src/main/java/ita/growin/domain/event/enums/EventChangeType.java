@@ -0,0 +1,7 @@
+package ita.growin.domain.event.enums;
+
+// 변경 로그 종류: 생성/수정은 UPSERT, 삭제는 DELETE(툼스톤)
+public enum EventChangeType {
+	UPSERT,
+	DELETE
+}
@@ -1,5 +1,8 @@
 package ita.growin.domain.event.enums;
 
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
 import ita.growin.global.exception.EventException;
 import ita.growin.global.exception.errorcode.EventErrorCode;
 import lombok.AccessLevel;
@@ -9,15 +12,16 @@ import lombok.RequiredArgsConstructor;
 @Getter
 @RequiredArgsConstructor(access = AccessLevel.PROTECTED)
 public enum RepeatType {
-	NONE("반복 안 함", 0, 0),
-	DAY("매일", 1, 6),
-	WEEK("주 단위", 1, 5),
-	MONTH("월 단위", 1, 5),
-	YEAR("년 단위", 1, 3);
+	NONE("반복 안 함", 0, 0, null),
+	DAY("매일", 1, 6, ChronoUnit.DAYS),
+	WEEK("주 단위", 1, 5, ChronoUnit.WEEKS),
+	MONTH("월 단위", 1, 5, ChronoUnit.MONTHS),
+	YEAR("년 단위", 1, 3, ChronoUnit.YEARS);
 
 	private final String description;
 	private final int minCount;
 	private final int maxCount;
+	private final ChronoUnit unit; // 반복 주기 단위 (NONE은 null)
 
 	public static RepeatType from(String value) {
 		for (RepeatType repeatType : values()) {
@@ -40,4 +44,18 @@ public enum RepeatType {
 			throw new EventException(EventErrorCode.INVALID_REPEAT_COUNT);
 		}
 	}
+
+	public boolean isRepeating() {
+		return this != NONE;
+	}
+
+	// 기준일로부터 steps 주기만큼 이동한 날짜 (월/년 단위는 말일 보정)
+	public LocalDate shift(LocalDate base, long steps) {
+		return base.plus(steps, unit);
+	}
+
+	// from ~ to 사이의 완전한 주기 수
+	public long periodsBetween(LocalDate from, LocalDate to) {
+		return unit.between(from, to);
+	}
 }
@@ -0,0 +1,193 @@
+package ita.growin.domain.event.ical;
+
+import java.time.DateTimeException;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.Locale;
+import java.util.Map;
+
+import ita.growin.domain.event.dto.request.EventReqDto;
+import ita.growin.domain.event.enums.RepeatType;
+import ita.growin.domain.event.ical.ICalendarReader.Property;
+import ita.growin.domain.event.ical.ICalendarReader.VEvent;
+import lombok.experimental.UtilityClass;
+
+// VEVENT → 일정 생성 요청. 내보내기(ICalendarWriter)와 같은 규칙을 반대로 적용한다.
+// - 종일 일정의 DTEND는 다음 날이므로 하루 앞당긴다.
+// - 일정에는 시간대 정보가 없으므로 UTC(Z)와 TZID 시각은 애플리케이션 시간대의 시각으로 바꿔 저장한다.
+//   시간대가 없는 시각(floating)과 날짜는 적힌 그대로 사용한다.
+// - RRULE의 INTERVAL은 repeatCount, UNTIL/COUNT는 마지막 발생 일정이 끝나는 날짜(repeatEndDate)로 바꾼다.
+@UtilityClass
+public class ICalendarEventMapper {
+
+	private static final String DEFAULT_TITLE = "(제목 없음)";
+
+	private static final Map<String, DayOfWeek> DAYS = Map.of(
+		"MO", DayOfWeek.MONDAY, "TU", DayOfWeek.TUESDAY, "WE", DayOfWeek.WEDNESDAY, "TH", DayOfWeek.THURSDAY,
+		"FR", DayOfWeek.FRIDAY, "SA", DayOfWeek.SATURDAY, "SU", DayOfWeek.SUNDAY);
+
+	public EventReqDto toRequest(VEvent event) {
+		return toRequest(event, ZoneId.systemDefault());
+	}
+
+	public EventReqDto toRequest(VEvent event, ZoneId zone) {
+		Property dtStart = event.property("DTSTART");
+		if (dtStart == null) {
+			throw new ICalendarFormatException(event.line(), "DTSTART가 없습니다.");
+		}
+		Property dtEnd = event.property("DTEND");
+		boolean allDay = isDate(dtStart);
+		LocalDateTime start = parseDateTime(dtStart, zone);
+		LocalDateTime end = dtEnd == null ? null : parseDateTime(dtEnd, zone);
+
+		LocalDate startDate = start.toLocalDate();
+		LocalDate endDate;
+		if (end == null) {
+			endDate = startDate;
+		} else if (allDay) {
+			endDate = end.toLocalDate().minusDays(1).isBefore(startDate) ? startDate : end.toLocalDate().minusDays(1);
+		} else {
+			endDate = end.toLocalDate();
+		}
+		LocalTime startTime = allDay ? null : start.toLocalTime();
+		LocalTime endTime = allDay ? null : end == null ? startTime : end.toLocalTime();
+
+		EventReqDto.EventReqDtoBuilder builder = EventReqDto.builder()
+			.title(title(event.property("SUMMARY")))
+			.allDay(allDay)
+			.startDate(startDate)
+			.endDate(endDate)
+			.startDay(startDate.getDayOfWeek())
+			.endDay(endDate.getDayOfWeek())
+			.startTime(startTime)
+			.endTime(endTime)
+			.repeatType(RepeatType.NONE);
+
+		Property rrule = event.property("RRULE");
+		if (rrule != null) {
+			applyRule(builder, rrule, startDate, ChronoUnit.DAYS.between(startDate, endDate), zone);
+		}
+		return builder.build();
+	}
+
+	private static void applyRule(EventReqDto.EventReqDtoBuilder builder, Property rrule, LocalDate startDate, long span,
+		ZoneId zone) {
+		RepeatType repeatType = null;
+		int interval = 1;
+		LocalDate until = null;
+		Integer count = null;
+		try {
+			for (String part : rrule.value().split(";")) {
+				int equals = part.indexOf('=');
+				String key = equals < 0 ? part : part.substring(0, equals).toUpperCase(Locale.ROOT);
+				String value = equals < 0 ? "" : part.substring(equals + 1).toUpperCase(Locale.ROOT);
+				switch (key) {
+					case "FREQ" -> repeatType = frequency(value, rrule.line());
+					case "INTERVAL" -> interval = Integer.parseInt(value);
+					case "UNTIL" -> until = until(value, zone);
+					case "COUNT" -> count = Integer.parseInt(value);
+					case "WKST" -> { }
+					// 시작일과 같은 값 하나뿐인 경우만 지원 (여러 요일/날짜 반복은 일정 모델로 표현할 수 없음)
+					case "BYDAY" -> requireSame(DAYS.get(value) == startDate.getDayOfWeek(), part, rrule.line());
+					case "BYMONTHDAY" -> requireSame(value.equals(String.valueOf(startDate.getDayOfMonth())), part, rrule.line());
+					case "BYMONTH" -> requireSame(value.equals(String.valueOf(startDate.getMonthValue())), part, rrule.line());
+					default -> throw new ICalendarFormatException(rrule.line(), "지원하지 않는 반복 규칙입니다: " + part);
+				}
+			}
+		} catch (NumberFormatException | DateTimeParseException | StringIndexOutOfBoundsException exception) {
+			throw new ICalendarFormatException(rrule.line(), "반복 규칙 형식이 잘못되었습니다: " + rrule.value());
+		}
+		if (repeatType == null) {
+			throw new ICalendarFormatException(rrule.line(), "반복 규칙에 FREQ가 없습니다.");
+		}
+
+		LocalDate lastStart = until;
+		if (count != null) {
+			lastStart = repeatType.shift(startDate, (long) Math.max(count - 1, 0) * interval);
+		}
+		builder.repeatType(repeatType)
+			.repeatCount(interval)
+			.repeatEndDate(lastStart == null ? null : lastStart.plusDays(span));
+	}
+
+	private static RepeatType frequency(String value, int line) {
+		return switch (value) {
+			case "DAILY" -> RepeatType.DAY;
+			case "WEEKLY" -> RepeatType.WEEK;
+			case "MONTHLY" -> RepeatType.MONTH;
+			case "YEARLY" -> RepeatType.YEAR;
+			default -> throw new ICalendarFormatException(line, "지원하지 않는 반복 주기입니다: " + value);
+		};
+	}
+
+	private static void requireSame(boolean same, String part, int line) {
+		if (!same) {
+			throw new ICalendarFormatException(line, "지원하지 않는 반복 규칙입니다: " + part);
+		}
+	}
+
+	private static boolean isDate(Property property) {
+		return "DATE".equalsIgnoreCase(property.parameters().get("VALUE")) || property.value().length() == 8;
+	}
+
+	// UNTIL은 DTSTART와 같은 형식이지만 시각이 있으면 UTC(Z)로 적는다.
+	private static LocalDate until(String value, ZoneId zone) {
+		if (value.length() == 8) {
+			return LocalDate.parse(value, ICalendarWriter.DATE);
+		}
+		LocalDateTime until = LocalDateTime.parse(stripUtc(value), ICalendarWriter.DATE_TIME);
+		return value.endsWith("Z") ? toZone(until, ZoneOffset.UTC, zone).toLocalDate() : until.toLocalDate();
+	}
+
+	private static LocalDateTime parseDateTime(Property property, ZoneId zone) {
+		String value = stripUtc(property.value());
+		try {
+			if (value.length() == 8) {
+				return LocalDate.parse(value, ICalendarWriter.DATE).atStartOfDay();
+			}
+			LocalDateTime dateTime = LocalDateTime.parse(value, ICalendarWriter.DATE_TIME);
+			if (property.value().endsWith("Z")) {
+				return toZone(dateTime, ZoneOffset.UTC, zone);
+			}
+			String tzid = property.parameters().get("TZID");
+			return tzid == null ? dateTime : toZone(dateTime, ZoneId.of(tzid), zone);
+		} catch (DateTimeParseException exception) {
+			throw new ICalendarFormatException(property.line(), "날짜 형식이 잘못되었습니다: " + property.value());
+		} catch (DateTimeException exception) {
+			throw new ICalendarFormatException(property.line(),
+				"알 수 없는 시간대입니다: " + property.parameters().get("TZID"));
+		}
+	}
+
+	private static LocalDateTime toZone(LocalDateTime dateTime, ZoneId from, ZoneId to) {
+		return dateTime.atZone(from).withZoneSameInstant(to).toLocalDateTime();
+	}
+
+	private static String stripUtc(String value) {
+		return value.endsWith("Z") ? value.substring(0, value.length() - 1) : value;
+	}
+
+	private static String title(Property summary) {
+		if (summary == null || summary.value().isBlank()) {
+			return DEFAULT_TITLE;
+		}
+		String value = summary.value();
+		StringBuilder title = new StringBuilder(value.length());
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			if (c == '\\' && i + 1 < value.length()) {
+				char next = value.charAt(++i);
+				title.append(next == 'n' || next == 'N' ? '\n' : next);
+			} else {
+				title.append(c);
+			}
+		}
+		return title.toString();
+	}
+}
@@ -0,0 +1,15 @@
+package ita.growin.domain.event.ical;
+
+import lombok.Getter;
+
+// .ics 해석 오류. 가져오기 결과에 줄 번호와 함께 보고된다.
+@Getter
+public class ICalendarFormatException extends RuntimeException {
+
+	private final int line;
+
+	public ICalendarFormatException(int line, String message) {
+		super(message);
+		this.line = line;
+	}
+}
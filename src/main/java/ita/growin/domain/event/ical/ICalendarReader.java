@@ -0,0 +1,159 @@
+package ita.growin.domain.event.ical;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+// RFC 5545 iCalendar를 VEVENT 단위로 순차적으로 읽는다. 파일 전체를 올리지 않으므로 메모리 사용량은 VEVENT 하나 크기로 제한된다.
+// 접힌 줄(공백/탭으로 시작하는 줄)은 이어 붙이고, VEVENT 안의 VALARM 등 하위 컴포넌트는 건너뛴다.
+public class ICalendarReader {
+
+	// 한 줄(접힌 줄을 이어 붙인 줄 포함)의 최대 길이
+	private static final int MAX_LINE_LENGTH = 64 * 1024;
+
+	private final BufferedReader reader;
+	private int physicalLine;
+	private int currentLine;
+	private String lookahead;
+	private int lookaheadLine;
+
+	public ICalendarReader(InputStream inputStream) {
+		this.reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+	}
+
+	// 다음 VEVENT (없으면 null)
+	public VEvent next() throws IOException {
+		String line;
+		while ((line = readLine()) != null) {
+			if (line.equalsIgnoreCase("BEGIN:VEVENT")) {
+				return readEvent(currentLine);
+			}
+		}
+		return null;
+	}
+
+	private VEvent readEvent(int beginLine) throws IOException {
+		Map<String, Property> properties = new HashMap<>();
+		int depth = 0;
+		String line;
+		while ((line = readLine()) != null) {
+			String upper = line.toUpperCase(Locale.ROOT);
+			if (upper.startsWith("BEGIN:")) {
+				depth++;
+			} else if (upper.startsWith("END:")) {
+				if (depth == 0) {
+					return new VEvent(beginLine, properties);
+				}
+				depth--;
+			} else if (depth == 0) {
+				Property property = Property.parse(line, currentLine);
+				if (property != null) {
+					properties.putIfAbsent(property.name(), property);
+				}
+			}
+		}
+		throw new ICalendarFormatException(beginLine, "VEVENT가 END:VEVENT 없이 끝났습니다.");
+	}
+
+	// 접힌 줄을 이어 붙인 논리적인 한 줄 (currentLine은 그 줄이 시작된 줄 번호)
+	private String readLine() throws IOException {
+		String line;
+		if (lookahead != null) {
+			line = lookahead;
+			currentLine = lookaheadLine;
+			lookahead = null;
+		} else {
+			line = readPhysicalLine();
+			if (line == null) {
+				return null;
+			}
+			currentLine = ++physicalLine;
+		}
+
+		StringBuilder unfolded = null;
+		String next;
+		while ((next = readPhysicalLine()) != null) {
+			physicalLine++;
+			if (next.isEmpty() || (next.charAt(0) != ' ' && next.charAt(0) != '\t')) {
+				lookahead = next;
+				lookaheadLine = physicalLine;
+				break;
+			}
+			if (unfolded == null) {
+				unfolded = new StringBuilder(line);
+			}
+			if (unfolded.length() + next.length() > MAX_LINE_LENGTH) {
+				throw new ICalendarFormatException(currentLine, "한 줄이 너무 깁니다.");
+			}
+			unfolded.append(next, 1, next.length());
+		}
+		return unfolded == null ? line : unfolded.toString();
+	}
+
+	// 줄바꿈(CRLF, LF, CR) 전까지의 물리적인 한 줄. BufferedReader.readLine은 줄바꿈이 나올 때까지 모두 메모리에 올리므로
+	// 한 글자씩 읽으며 MAX_LINE_LENGTH를 넘는 순간 실패한다. (줄바꿈 없는 큰 업로드도 64 KiB 이상 읽지 않는다)
+	private String readPhysicalLine() throws IOException {
+		StringBuilder line = new StringBuilder();
+		int c;
+		while ((c = reader.read()) != -1) {
+			if (c == '\n') {
+				return line.toString();
+			}
+			if (c == '\r') {
+				reader.mark(1);
+				if (reader.read() != '\n') {
+					reader.reset();
+				}
+				return line.toString();
+			}
+			if (line.length() >= MAX_LINE_LENGTH) {
+				throw new ICalendarFormatException(physicalLine + 1, "한 줄이 너무 깁니다.");
+			}
+			line.append((char)c);
+		}
+		return line.isEmpty() ? null : line.toString();
+	}
+
+	public record VEvent(int line, Map<String, Property> properties) {
+
+		public Property property(String name) {
+			return properties.get(name);
+		}
+	}
+
+	// NAME;PARAM=VALUE;...:VALUE
+	public record Property(int line, String name, Map<String, String> parameters, String value) {
+
+		static Property parse(String content, int line) {
+			int colon = -1;
+			boolean quoted = false;
+			for (int i = 0; i < content.length() && colon < 0; i++) {
+				char c = content.charAt(i);
+				if (c == '"') {
+					quoted = !quoted;
+				} else if (c == ':' && !quoted) {
+					colon = i;
+				}
+			}
+			if (colon <= 0) {
+				return null;
+			}
+
+			String[] head = content.substring(0, colon).split(";");
+			Map<String, String> parameters = new HashMap<>();
+			for (int i = 1; i < head.length; i++) {
+				int equals = head[i].indexOf('=');
+				if (equals > 0) {
+					parameters.put(head[i].substring(0, equals).toUpperCase(Locale.ROOT),
+						head[i].substring(equals + 1).replace("\"", ""));
+				}
+			}
+			return new Property(line, head[0].toUpperCase(Locale.ROOT), parameters, content.substring(colon + 1));
+		}
+	}
+}
@@ -0,0 +1,128 @@
+package ita.growin.domain.event.ical;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+
+import ita.growin.domain.event.enums.RepeatType;
+import ita.growin.domain.event.recurrence.EventSeries;
+import ita.growin.domain.event.recurrence.RecurrenceRule;
+
+// RFC 5545 iCalendar 출력. 일정 하나씩 버퍼에 쓰고 바로 내보내므로 일정 수와 관계없이 메모리 사용량이 일정하다.
+// 시간은 서버/사용자 시간대 정보가 없어 floating time(시간대 없음)으로 쓴다.
+public class ICalendarWriter {
+
+	static final DateTimeFormatter DATE = DateTimeFormatter.ofPattern("yyyyMMdd");
+	static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+
+	// 한 줄 최대 길이 (CRLF 제외, 바이트 기준). 넘으면 CRLF + 공백으로 접는다.
+	private static final int MAX_LINE_OCTETS = 75;
+
+	private final Writer writer;
+	private final String timestamp = LocalDateTime.now(ZoneOffset.UTC).format(DATE_TIME) + "Z";
+
+	public ICalendarWriter(OutputStream outputStream) {
+		this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+	}
+
+	public void begin() throws IOException {
+		line("BEGIN:VCALENDAR");
+		line("VERSION:2.0");
+		line("PRODID:-//growin//calendar//KO");
+		line("CALSCALE:GREGORIAN");
+	}
+
+	public void write(EventSeries series) throws IOException {
+		RecurrenceRule rule = series.rule();
+		// 반복 종료 날짜 안에 끝나는 발생 일정이 하나도 없는 일정은 앱에서도 보이지 않으므로 내보내지 않는다.
+		LocalDate lastStart = rule.repeatEndDate() == null ? null : rule.repeatEndDate().minusDays(rule.spanDays());
+		if (rule.isRepeating() && lastStart != null && lastStart.isBefore(series.startDate())) {
+			return;
+		}
+
+		boolean dateOnly = Boolean.TRUE.equals(series.allDay())
+			|| series.startTime() == null || series.endTime() == null;
+
+		line("BEGIN:VEVENT");
+		line("UID:event-" + series.id() + "@growin");
+		line("DTSTAMP:" + timestamp);
+		line("SUMMARY:" + escape(series.title()));
+		if (dateOnly) {
+			// 종일 일정의 DTEND는 다음 날 (종료일 미포함)
+			line("DTSTART;VALUE=DATE:" + series.startDate().format(DATE));
+			line("DTEND;VALUE=DATE:" + series.endDate().plusDays(1).format(DATE));
+		} else {
+			line("DTSTART:" + series.startDate().atTime(series.startTime()).format(DATE_TIME));
+			line("DTEND:" + series.endDate().atTime(series.endTime()).format(DATE_TIME));
+		}
+		if (rule.isRepeating()) {
+			StringBuilder rrule = new StringBuilder("RRULE:FREQ=").append(frequency(rule.repeatType()));
+			if (rule.interval() > 1) {
+				rrule.append(";INTERVAL=").append(rule.interval());
+			}
+			// UNTIL은 마지막 발생 일정의 시작 시점 (repeatEndDate는 발생 일정이 끝나야 하는 날짜)
+			if (lastStart != null) {
+				rrule.append(";UNTIL=").append(dateOnly
+					? lastStart.format(DATE)
+					: lastStart.atTime(series.startTime()).format(DATE_TIME));
+			}
+			line(rrule.toString());
+		}
+		line("END:VEVENT");
+	}
+
+	public void end() throws IOException {
+		line("END:VCALENDAR");
+		writer.flush();
+	}
+
+	static String frequency(RepeatType repeatType) {
+		return switch (repeatType) {
+			case DAY -> "DAILY";
+			case WEEK -> "WEEKLY";
+			case MONTH -> "MONTHLY";
+			case YEAR -> "YEARLY";
+			case NONE -> throw new IllegalArgumentException("반복하지 않는 일정입니다.");
+		};
+	}
+
+	// TEXT 값 이스케이프: \ ; , 줄바꿈
+	private static String escape(String text) {
+		StringBuilder escaped = new StringBuilder(text.length() + 8);
+		for (int i = 0; i < text.length(); i++) {
+			char c = text.charAt(i);
+			switch (c) {
+				case '\\', ';', ',' -> escaped.append('\\').append(c);
+				case '\n' -> escaped.append("\\n");
+				case '\r' -> { }
+				default -> escaped.append(c);
+			}
+		}
+		return escaped.toString();
+	}
+
+	// 75바이트마다 접되, UTF-8 문자(한글 3바이트)가 중간에서 잘리지 않게 코드 포인트 단위로 센다.
+	private void line(String content) throws IOException {
+		int octets = 0;
+		for (int i = 0; i < content.length(); ) {
+			int codePoint = content.codePointAt(i);
+			int chars = Character.charCount(codePoint);
+			int length = codePoint < 0x80 ? 1 : codePoint < 0x800 ? 2 : codePoint < 0x10000 ? 3 : 4;
+			if (octets + length > MAX_LINE_OCTETS) {
+				writer.write("\r\n ");
+				octets = 1;
+			}
+			writer.write(content, i, chars);
+			octets += length;
+			i += chars;
+		}
+		writer.write("\r\n");
+	}
+}
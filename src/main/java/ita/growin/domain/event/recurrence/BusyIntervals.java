@@ -0,0 +1,60 @@
+package ita.growin.domain.event.recurrence;
+
+import java.util.Arrays;
+
+// 바쁜 구간 [start, end) 들을 겹치거나 맞닿은 것끼리 합친다.
+// 시작/끝 배열을 각각 정렬한 뒤 열린 구간 수를 세며 훑는다. (기본형 배열만 사용, O(n log n))
+public class BusyIntervals {
+
+	private long[] starts;
+	private long[] ends;
+	private int size;
+
+	public BusyIntervals(int expectedSize) {
+		this.starts = new long[Math.max(expectedSize, 16)];
+		this.ends = new long[starts.length];
+	}
+
+	// 길이가 0 이하인 구간은 바쁜 시간이 아니므로 무시
+	public void add(long start, long end) {
+		if (end <= start) {
+			return;
+		}
+		if (size == starts.length) {
+			starts = Arrays.copyOf(starts, size * 2);
+			ends = Arrays.copyOf(ends, size * 2);
+		}
+		starts[size] = start;
+		ends[size] = end;
+		size++;
+	}
+
+	// 합친 구간을 [start0, end0, start1, end1, ...] 순서로 반환
+	public long[] merge() {
+		long[] sortedStarts = Arrays.copyOf(starts, size);
+		long[] sortedEnds = Arrays.copyOf(ends, size);
+		Arrays.sort(sortedStarts);
+		Arrays.sort(sortedEnds);
+
+		long[] merged = new long[size * 2];
+		int count = 0;
+		int open = 0;
+		int i = 0;
+		int j = 0;
+		while (j < size) {
+			// 같은 시각이면 시작을 먼저 처리해 맞닿은 구간을 잇는다.
+			if (i < size && sortedStarts[i] <= sortedEnds[j]) {
+				if (open++ == 0) {
+					merged[count++] = sortedStarts[i];
+				}
+				i++;
+			} else {
+				if (--open == 0) {
+					merged[count++] = sortedEnds[j];
+				}
+				j++;
+			}
+		}
+		return Arrays.copyOf(merged, count);
+	}
+}
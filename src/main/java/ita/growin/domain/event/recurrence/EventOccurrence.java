@@ -0,0 +1,11 @@
+package ita.growin.domain.event.recurrence;
+
+import java.time.LocalDate;
+
+// 반복 일정을 전개한 한 번의 발생 일정 (비반복 일정은 자기 자신 하나)
+public record EventOccurrence(
+	EventSeries series,
+	LocalDate startDate,
+	LocalDate endDate
+) {
+}
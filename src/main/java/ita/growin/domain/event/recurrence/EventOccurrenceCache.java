@@ -0,0 +1,36 @@
+package ita.growin.domain.event.recurrence;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+// (시리즈, 조회 구간) 단위 전개 결과 캐시
+// 키에 반복 규칙이 포함되므로 일정이 수정되면 이전 항목은 조회되지 않고 만료로 정리된다.
+@Component
+public class EventOccurrenceCache {
+
+	private static final long MAXIMUM_SIZE = 10_000;
+	private static final Duration EXPIRE_AFTER_ACCESS = Duration.ofMinutes(10);
+
+	private final Cache<Key, List<LocalDate>> cache = Caffeine.newBuilder()
+		.maximumSize(MAXIMUM_SIZE)
+		.expireAfterAccess(EXPIRE_AFTER_ACCESS)
+		.build();
+
+	public List<LocalDate> occurrenceStarts(Long eventId, RecurrenceRule rule, LocalDate windowStart,
+		LocalDate windowEnd) {
+		if (!rule.isRepeating()) {
+			return RecurrenceExpander.occurrenceStarts(rule, windowStart, windowEnd).toList();
+		}
+		return cache.get(new Key(eventId, rule, windowStart, windowEnd),
+			key -> RecurrenceExpander.occurrenceStarts(rule, windowStart, windowEnd).toList());
+	}
+
+	private record Key(Long eventId, RecurrenceRule rule, LocalDate windowStart, LocalDate windowEnd) {
+	}
+}
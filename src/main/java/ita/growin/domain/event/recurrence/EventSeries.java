@@ -0,0 +1,25 @@
+package ita.growin.domain.event.recurrence;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import ita.growin.domain.event.enums.RepeatType;
+
+// 목록 조회용 일정 프로젝션. 엔티티를 영속성 컨텍스트에 올리지 않고 필요한 컬럼만 읽는다.
+public record EventSeries(
+	Long id,
+	String title,
+	Boolean allDay,
+	LocalDate startDate,
+	LocalDate endDate,
+	LocalTime startTime,
+	LocalTime endTime,
+	RepeatType repeatType,
+	Integer repeatCount,
+	LocalDate repeatEndDate
+) {
+
+	public RecurrenceRule rule() {
+		return new RecurrenceRule(startDate, endDate, repeatType, repeatCount, repeatEndDate);
+	}
+}
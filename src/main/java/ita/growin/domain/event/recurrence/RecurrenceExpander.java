@@ -0,0 +1,46 @@
+package ita.growin.domain.event.recurrence;
+
+import java.time.LocalDate;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import lombok.experimental.UtilityClass;
+
+@UtilityClass
+public class RecurrenceExpander {
+
+	// 조회 구간 [windowStart, windowEnd]와 겹치는 발생 일정의 시작일을 순서대로 반환
+	// 구간 직전 주기부터 계산하므로 시리즈 전체를 만들지 않고, 스트림은 필요한 만큼만 평가된다.
+	public static Stream<LocalDate> occurrenceStarts(RecurrenceRule rule, LocalDate windowStart, LocalDate windowEnd) {
+		long span = rule.spanDays();
+
+		if (!rule.isRepeating()) {
+			return overlaps(rule.startDate(), rule.endDate(), windowStart, windowEnd)
+				? Stream.of(rule.startDate())
+				: Stream.empty();
+		}
+
+		// 발생 일정의 종료일이 구간 시작 이후여야 하고, 시작일은 구간 끝 및 반복 종료일 이전이어야 한다.
+		LocalDate lowerBound = windowStart.minusDays(span);
+		LocalDate upperBound = windowEnd;
+		if (rule.repeatEndDate() != null && rule.repeatEndDate().minusDays(span).isBefore(upperBound)) {
+			upperBound = rule.repeatEndDate().minusDays(span);
+		}
+		if (upperBound.isBefore(rule.startDate()) || upperBound.isBefore(lowerBound)) {
+			return Stream.empty();
+		}
+
+		int interval = rule.interval();
+		long firstStep = Math.max(0, rule.repeatType().periodsBetween(rule.startDate(), lowerBound) / interval);
+		LocalDate last = upperBound;
+
+		return LongStream.iterate(firstStep, step -> step + 1)
+			.mapToObj(step -> rule.repeatType().shift(rule.startDate(), step * interval))
+			.dropWhile(date -> date.isBefore(lowerBound))
+			.takeWhile(date -> !date.isAfter(last));
+	}
+
+	public static boolean overlaps(LocalDate startDate, LocalDate endDate, LocalDate windowStart, LocalDate windowEnd) {
+		return !startDate.isAfter(windowEnd) && !endDate.isBefore(windowStart);
+	}
+}
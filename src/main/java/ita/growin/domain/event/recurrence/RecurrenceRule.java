@@ -0,0 +1,30 @@
+package ita.growin.domain.event.recurrence;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
+import ita.growin.domain.event.enums.RepeatType;
+
+// 반복 일정 전개에 필요한 값만 모은 규칙
+// repeatCount: 반복 간격 (N일/N주/N개월/N년마다), repeatEndDate: 발생 일정이 끝나야 하는 마지막 날짜
+public record RecurrenceRule(
+	LocalDate startDate,
+	LocalDate endDate,
+	RepeatType repeatType,
+	Integer repeatCount,
+	LocalDate repeatEndDate
+) {
+
+	public boolean isRepeating() {
+		return repeatType != null && repeatType.isRepeating();
+	}
+
+	public int interval() {
+		return repeatCount == null || repeatCount < 1 ? 1 : repeatCount;
+	}
+
+	// 한 번의 일정이 차지하는 기간 (시작일과 종료일의 차이)
+	public long spanDays() {
+		return ChronoUnit.DAYS.between(startDate, endDate);
+	}
+}
@@ -0,0 +1,19 @@
+package ita.growin.domain.event.repository;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import ita.growin.domain.event.entity.EventChangeCounter;
+import jakarta.persistence.LockModeType;
+
+public interface EventChangeCounterRepository extends JpaRepository<EventChangeCounter, Long> {
+
+	// SELECT ... FOR UPDATE: 토큰 발급을 직렬화한다.
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("SELECT c FROM EventChangeCounter c WHERE c.id = :id")
+	Optional<EventChangeCounter> findForUpdate(@Param("id") long id);
+}
@@ -0,0 +1,12 @@
+package ita.growin.domain.event.repository;
+
+// 토큰이 아직 발급되지 않은 변경 묶음의 id 범위 (행이 없으면 둘 다 null)
+public record EventChangeIdRange(
+	Long minId,
+	Long maxId
+) {
+
+	public boolean isEmpty() {
+		return minId == null;
+	}
+}
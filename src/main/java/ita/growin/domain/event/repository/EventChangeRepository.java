@@ -0,0 +1,56 @@
+package ita.growin.domain.event.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import ita.growin.domain.event.dto.response.EventChangeResDto;
+import ita.growin.domain.event.entity.EventChange;
+import ita.growin.domain.event.enums.EventChangeType;
+
+public interface EventChangeRepository extends JpaRepository<EventChange, Long> {
+
+	// 일정 ID마다 변경 로그 한 행 (토큰 미발급). 아직 INSERT되지 않은 일정이 있을 수 있어 먼저 flush한다.
+	// 삭제는 일정 행이 지워지기 전에 기록해야 한다.
+	@Modifying(flushAutomatically = true)
+	@Query("""
+		INSERT INTO EventChange (eventId, type, changedAt, batch)
+		SELECT e.id, :type, :changedAt, :batch FROM Event e WHERE e.id IN :eventIds
+		""")
+	int record(@Param("eventIds") Collection<Long> eventIds, @Param("type") EventChangeType type,
+		@Param("changedAt") LocalDateTime changedAt, @Param("batch") String batch);
+
+	@Query("""
+		SELECT new ita.growin.domain.event.repository.EventChangeIdRange(MIN(c.id), MAX(c.id))
+		FROM EventChange c
+		WHERE c.batch = :batch AND c.seq IS NULL
+		""")
+	EventChangeIdRange findUnpublishedIdRange(@Param("batch") String batch);
+
+	// 묶음 안의 순서(id)를 유지한 채 토큰을 발급한다: seq = id + offset
+	@Modifying
+	@Query("UPDATE EventChange c SET c.seq = c.id + :offset WHERE c.batch = :batch AND c.seq IS NULL")
+	int publish(@Param("batch") String batch, @Param("offset") long offset);
+
+	// 커밋된 뒤 토큰을 받지 못한 묶음 (커밋 직후 인스턴스가 내려간 경우 등)
+	@Query("SELECT DISTINCT c.batch FROM EventChange c WHERE c.seq IS NULL AND c.changedAt < :changedBefore")
+	List<String> findUnpublishedBatches(@Param("changedBefore") LocalDateTime changedBefore, Pageable pageable);
+
+	// 토큰 이후의 변경 (커밋 순서). 일정이 이미 삭제된 UPSERT는 일정 컬럼이 null로 채워진다.
+	@Query("""
+		SELECT new ita.growin.domain.event.dto.response.EventChangeResDto(
+		    c.seq, c.eventId, c.type, e.title, e.allDay, e.startDate, e.endDate, e.startTime, e.endTime,
+		    e.repeatType, e.repeatCount, e.repeatEndDate, e.version)
+		FROM EventChange c
+		LEFT JOIN Event e ON e.id = c.eventId
+		WHERE c.seq > :since
+		ORDER BY c.seq
+		""")
+	List<EventChangeResDto> findAllAfter(@Param("since") long since, Pageable pageable);
+}
@@ -1,28 +1,104 @@
 package ita.growin.domain.event.repository;
 
 import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Stream;
 
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import jakarta.persistence.QueryHint;
+
 import ita.growin.domain.event.entity.Event;
+import ita.growin.domain.event.recurrence.EventSeries;
+import ita.growin.domain.event.validator.EventValidator;
 
 public interface EventRepository extends JpaRepository<Event, Long> {
 
+	// 구간과 겹치는 일정 + 구간 이전에 시작해 아직 반복이 끝나지 않은 반복 일정 (전개 후보)
+	default List<EventSeries> findAllByMonth(LocalDate startDate, LocalDate endDate) {
+		return findAllInRange(startDate.minusDays(EventValidator.MAX_EVENT_SPAN_DAYS), startDate, endDate);
+	}
+
+	default List<EventSeries> findAllByDate(LocalDate targetDate) {
+		return findAllByMonth(targetDate, targetDate);
+	}
+
+	// 목록 조회는 엔티티 대신 EventSeries 프로젝션으로 필요한 컬럼만 읽는다.
+	// 일정 기간이 MAX_EVENT_SPAN_DAYS로 제한되므로, 반복 없는 일정은 시작일 범위 [spanFrom, endDate] 안에만 존재한다.
+	// 두 조건 모두 (repeat_type, start_date) 인덱스의 범위 조건이 되어 겹치는 행만 읽는다.
+	// 월/일 조회는 같은 파라미터로 반복되므로 쿼리 캐시(event-range 영역)에 결과 행을 둔다.
+	// event 테이블에 쓰기가 있으면 Hibernate가 캐시된 결과를 무효화한다. (use_query_cache=false면 힌트는 무시된다)
+	@QueryHints({
+		@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+		@QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "event-range")
+	})
+	@Query("""
+		SELECT new ita.growin.domain.event.recurrence.EventSeries(
+		    e.id, e.title, e.allDay, e.startDate, e.endDate, e.startTime, e.endTime,
+		    e.repeatType, e.repeatCount, e.repeatEndDate)
+		FROM Event e
+		WHERE (e.repeatType = ita.growin.domain.event.enums.RepeatType.NONE
+		       AND e.startDate BETWEEN :spanFrom AND :endDate
+		       AND e.endDate >= :startDate)
+		   OR (e.repeatType <> ita.growin.domain.event.enums.RepeatType.NONE
+		       AND e.startDate <= :endDate
+		       AND (e.repeatEndDate IS NULL OR e.repeatEndDate >= :startDate))
+		""")
+	List<EventSeries> findAllInRange(@Param("spanFrom") LocalDate spanFrom,
+		@Param("startDate") LocalDate startDate,
+		@Param("endDate") LocalDate endDate);
+
+	// findAllInRange와 같은 조건 + 사용자 (user_id 외래 키 인덱스로 먼저 좁힌다)
+	@Query("""
+		SELECT new ita.growin.domain.event.recurrence.EventSeries(
+		    e.id, e.title, e.allDay, e.startDate, e.endDate, e.startTime, e.endTime,
+		    e.repeatType, e.repeatCount, e.repeatEndDate)
+		FROM Event e
+		WHERE e.user.id = :userId
+		  AND ((e.repeatType = ita.growin.domain.event.enums.RepeatType.NONE
+		        AND e.startDate BETWEEN :spanFrom AND :endDate
+		        AND e.endDate >= :startDate)
+		    OR (e.repeatType <> ita.growin.domain.event.enums.RepeatType.NONE
+		        AND e.startDate <= :endDate
+		        AND (e.repeatEndDate IS NULL OR e.repeatEndDate >= :startDate)))
+		""")
+	List<EventSeries> findAllInRangeByUser(@Param("userId") Long userId,
+		@Param("spanFrom") LocalDate spanFrom,
+		@Param("startDate") LocalDate startDate,
+		@Param("endDate") LocalDate endDate);
+
+	// 전체 일정(시리즈)을 전방향 커서로 fetch size만큼씩 읽는다. (내보내기용, streamAllInRange와 같은 설정)
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
 	@Query("""
-    SELECT e FROM Event e
-    WHERE e.startDate <= :endDate AND e.endDate >= :startDate
-    """)
-	Page<Event> findAllByMonth(@Param("startDate") LocalDate startDate,
-		@Param("endDate") LocalDate endDate,
-		Pageable pageable);
+		SELECT new ita.growin.domain.event.recurrence.EventSeries(
+		    e.id, e.title, e.allDay, e.startDate, e.endDate, e.startTime, e.endTime,
+		    e.repeatType, e.repeatCount, e.repeatEndDate)
+		FROM Event e
+		ORDER BY e.id
+		""")
+	Stream<EventSeries> streamAllSeries();
 
+	// 기간 전체를 순방향 커서로 읽는다. fetch size만큼씩 가져오므로 결과 전체가 메모리에 올라오지 않는다.
+	// (MySQL은 useCursorFetch=true일 때만 서버 커서를 쓴다. application-dev/local.yaml. 양수라 H2 등 다른 드라이버에서도 동작)
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
 	@Query("""
-        SELECT e FROM Event e
-        WHERE :targetDate BETWEEN e.startDate AND e.endDate
-        """)
-	Page<Event> findAllByDate(@Param("targetDate") LocalDate targetDate, Pageable pageable);
+		SELECT new ita.growin.domain.event.recurrence.EventSeries(
+		    e.id, e.title, e.allDay, e.startDate, e.endDate, e.startTime, e.endTime,
+		    e.repeatType, e.repeatCount, e.repeatEndDate)
+		FROM Event e
+		WHERE (e.repeatType = ita.growin.domain.event.enums.RepeatType.NONE
+		       AND e.startDate BETWEEN :spanFrom AND :endDate
+		       AND e.endDate >= :startDate)
+		   OR (e.repeatType <> ita.growin.domain.event.enums.RepeatType.NONE
+		       AND e.startDate <= :endDate
+		       AND (e.repeatEndDate IS NULL OR e.repeatEndDate >= :startDate))
+		ORDER BY e.startDate, e.id
+		""")
+	Stream<EventSeries> streamAllInRange(@Param("spanFrom") LocalDate spanFrom,
+		@Param("startDate") LocalDate startDate,
+		@Param("endDate") LocalDate endDate);
 }
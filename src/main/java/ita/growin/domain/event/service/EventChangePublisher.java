@@ -0,0 +1,86 @@
+package ita.growin.domain.event.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import ita.growin.domain.event.entity.EventChangeCounter;
+import ita.growin.domain.event.repository.EventChangeCounterRepository;
+import ita.growin.domain.event.repository.EventChangeIdRange;
+import ita.growin.domain.event.repository.EventChangeRepository;
+import lombok.extern.slf4j.Slf4j;
+
+// 변경 로그 토큰 발급. 변경을 기록한 트랜잭션이 커밋된 뒤 별도 트랜잭션에서 카운터 행을 잠그고 토큰을 매긴다.
+// 발급 트랜잭션이 하나씩 커밋되므로 토큰 순서가 커밋 순서와 같고, 조회 시점에 보이는 토큰은 항상 빈틈없는 앞부분이다.
+// (INSERT 시점에 발급되는 id는 오래 걸린 트랜잭션이 나중에 커밋되면 이미 내려간 토큰 앞에 끼어든다)
+@Slf4j
+@Component
+public class EventChangePublisher {
+
+	// 커밋 후 발급 전에 인스턴스가 내려가 남은 묶음은 다음 발급 때 함께 처리한다.
+	private static final Duration ORPHAN_AGE = Duration.ofMinutes(1);
+	private static final int MAX_ORPHAN_BATCHES = 20;
+
+	private final EventChangeRepository eventChangeRepository;
+	private final EventChangeCounterRepository eventChangeCounterRepository;
+	private final TransactionTemplate requiresNew;
+
+	public EventChangePublisher(EventChangeRepository eventChangeRepository,
+		EventChangeCounterRepository eventChangeCounterRepository, PlatformTransactionManager transactionManager) {
+		this.eventChangeRepository = eventChangeRepository;
+		this.eventChangeCounterRepository = eventChangeCounterRepository;
+		this.requiresNew = new TransactionTemplate(transactionManager);
+		this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+	}
+
+	// 트랜잭션 안이면 커밋 이후, 아니면 즉시 발급
+	public void publishAfterCommit(String batch) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			publishQuietly(batch);
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				publishQuietly(batch);
+			}
+		});
+	}
+
+	// 쓰기는 이미 커밋되었으므로 발급 실패를 요청 실패로 돌려보내지 않는다. 남은 묶음은 이후 발급에서 처리된다.
+	private void publishQuietly(String batch) {
+		try {
+			requiresNew.executeWithoutResult(status -> publish(batch));
+		} catch (RuntimeException exception) {
+			log.warn("event change publication deferred: batch={}", batch, exception);
+		}
+	}
+
+	private void publish(String batch) {
+		EventChangeCounter counter = eventChangeCounterRepository.findForUpdate(EventChangeCounter.ID)
+			.orElseGet(() -> eventChangeCounterRepository.saveAndFlush(EventChangeCounter.first()));
+		publish(counter, batch);
+		eventChangeRepository.findUnpublishedBatches(LocalDateTime.now().minus(ORPHAN_AGE),
+				PageRequest.of(0, MAX_ORPHAN_BATCHES))
+			.forEach(orphan -> publish(counter, orphan));
+	}
+
+	// 묶음의 토큰은 마지막 토큰 바로 뒤부터 시작한다. (id 사이 빈 번호는 토큰에서도 건너뛴다)
+	private void publish(EventChangeCounter counter, String batch) {
+		EventChangeIdRange range = eventChangeRepository.findUnpublishedIdRange(batch);
+		if (range.isEmpty()) {
+			return;
+		}
+		long offset = counter.getLastSeq() + 1 - range.minId();
+		if (eventChangeRepository.publish(batch, offset) > 0) {
+			counter.advanceTo(range.maxId() + offset);
+		}
+	}
+}
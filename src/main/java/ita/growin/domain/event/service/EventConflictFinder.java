@@ -0,0 +1,105 @@
+package ita.growin.domain.event.service;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import org.springframework.stereotype.Component;
+
+import ita.growin.domain.event.entity.Event;
+import ita.growin.domain.event.recurrence.EventSeries;
+import ita.growin.domain.event.recurrence.RecurrenceExpander;
+import ita.growin.domain.event.recurrence.RecurrenceRule;
+import ita.growin.domain.event.repository.EventRepository;
+import ita.growin.domain.event.validator.EventValidator;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+
+// 같은 사용자의 일정 중 시간이 겹치는 다른 일정 찾기
+// 시간 일정끼리만 비교하며(종일 일정 제외), 일정이 차지하는 기간만 인덱스 범위 조회로 후보를 읽는다.
+// 아직 로그인이 없어 생성/수정하는 일정에 소유자가 연결되지 않으므로 API에는 노출하지 않는다.
+// (로그인 도입 후 생성/수정에서 소유자를 연결할 때 함께 연결한다)
+@Component
+@RequiredArgsConstructor(access = AccessLevel.PROTECTED)
+public class EventConflictFinder {
+
+	// 반복 일정은 오늘(시리즈가 아직 시작 전이면 시작일)부터 이 기간 안의 발생 일정만 비교한다.
+	// (끝없는 반복이 달력 전체를 읽지 않도록. 오래된 시리즈를 수정할 때 지나간 처음 90일만 보지 않도록)
+	private static final long CONFLICT_CHECK_DAYS = 90;
+
+	private final EventRepository eventRepository;
+
+	public List<Long> findConflicts(Event event) {
+		return findConflicts(event, event.getUser() == null ? null : event.getUser().getId());
+	}
+
+	// 같은 소유자의 일정끼리만 비교한다. 소유자가 없으면 비교할 대상도 없다. (다른 사용자의 일정 ID가 응답에 섞이지 않도록)
+	public List<Long> findConflicts(Event event, Long ownerId) {
+		if (ownerId == null || isAllDay(event.getAllDay(), event.getStartTime(), event.getEndTime())) {
+			return List.of();
+		}
+
+		RecurrenceRule rule = new RecurrenceRule(event.getStartDate(), event.getEndDate(), event.getRepeatType(),
+			event.getRepeatCount(), event.getRepeatEndDate());
+		LocalDate from = event.getStartDate();
+		LocalDate to = event.getEndDate();
+		if (rule.isRepeating()) {
+			LocalDate today = LocalDate.now();
+			from = from.isBefore(today) ? today : from;
+			to = from.plusDays(CONFLICT_CHECK_DAYS);
+		}
+		long[] own = intervals(rule, event.getStartTime(), event.getEndTime(), from, to);
+		if (own.length == 0) {
+			return List.of();
+		}
+
+		LocalDate spanFrom = from.minusDays(EventValidator.MAX_EVENT_SPAN_DAYS);
+		List<EventSeries> candidates = eventRepository.findAllInRangeByUser(ownerId, spanFrom, from, to);
+
+		List<Long> conflicts = new ArrayList<>();
+		for (EventSeries series : candidates) {
+			if (series.id().equals(event.getId()) || isAllDay(series.allDay(), series.startTime(), series.endTime())) {
+				continue;
+			}
+			if (overlaps(own, intervals(series.rule(), series.startTime(), series.endTime(), from, to))) {
+				conflicts.add(series.id());
+			}
+		}
+		return conflicts;
+	}
+
+	private static boolean isAllDay(Boolean allDay, LocalTime startTime, LocalTime endTime) {
+		return Boolean.TRUE.equals(allDay) || startTime == null || endTime == null;
+	}
+
+	// 발생 일정마다 [시작, 끝) 초 단위 구간을 시작 순서대로 [start0, end0, start1, end1, ...]
+	private static long[] intervals(RecurrenceRule rule, LocalTime startTime, LocalTime endTime, LocalDate from,
+		LocalDate to) {
+		long span = rule.spanDays();
+		return RecurrenceExpander.occurrenceStarts(rule, from, to)
+			.flatMapToLong(start -> LongStream.of(
+				start.atTime(startTime).toEpochSecond(ZoneOffset.UTC),
+				start.plusDays(span).atTime(endTime).toEpochSecond(ZoneOffset.UTC)))
+			.toArray();
+	}
+
+	// 두 구간 목록 모두 시작 순서이고 같은 목록 안에서는 길이가 같아 끝도 순서대로이므로, 끝이 빠른 쪽을 넘기며 비교한다.
+	private static boolean overlaps(long[] a, long[] b) {
+		int i = 0;
+		int j = 0;
+		while (i < a.length && j < b.length) {
+			if (a[i] < b[j + 1] && b[j] < a[i + 1]) {
+				return true;
+			}
+			if (a[i + 1] <= b[j + 1]) {
+				i += 2;
+			} else {
+				j += 2;
+			}
+		}
+		return false;
+	}
+}
@@ -0,0 +1,129 @@
+package ita.growin.domain.event.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+
+import ita.growin.domain.event.converter.EventConverter;
+import ita.growin.domain.event.dto.request.EventReqDto;
+import ita.growin.domain.event.dto.response.EventImportResDto;
+import ita.growin.domain.event.ical.ICalendarEventMapper;
+import ita.growin.domain.event.ical.ICalendarFormatException;
+import ita.growin.domain.event.ical.ICalendarReader;
+import ita.growin.global.exception.EventException;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// .ics 가져오기: VEVENT를 하나씩 읽어 검증하고, CHUNK_SIZE개씩 모아 청크마다 별도 트랜잭션으로 저장한다.
+// 파일·영속성 컨텍스트 모두 청크 크기만큼만 메모리에 올라가며, 이미 저장된 청크는 뒤에서 실패해도 유지된다.
+// 저장에 실패한 청크는 요청 전체를 실패시키지 않고 줄 범위와 함께 failed/errors로 보고한다.
+// (앞 청크는 이미 커밋되었으므로, 클라이언트가 무엇이 저장되었는지 알아야 중복 없이 다시 시도할 수 있다)
+@Slf4j
+@Service
+@RequiredArgsConstructor(access = AccessLevel.PROTECTED)
+public class EventImportService {
+
+	// 한 트랜잭션에서 저장할 일정 수 (INSERT는 hibernate.jdbc.batch_size 단위로 다시 묶인다)
+	private static final int CHUNK_SIZE = 500;
+
+	// 응답에 담는 오류 수 상한 (건너뛴 전체 수는 failed로 집계)
+	private static final int MAX_REPORTED_ERRORS = 100;
+
+	private final EventService eventService;
+
+	public EventImportResDto importCalendar(InputStream inputStream) {
+		long startedAt = System.nanoTime();
+		ICalendarReader reader = new ICalendarReader(inputStream);
+		Chunk chunk = new Chunk();
+		List<EventImportResDto.LineError> errors = new ArrayList<>();
+		int imported = 0;
+		int failed = 0;
+
+		try {
+			for (ICalendarReader.VEvent event = reader.next(); event != null; event = reader.next()) {
+				try {
+					EventReqDto request = ICalendarEventMapper.toRequest(event);
+					EventService.validate(EventConverter.toEntity(request));
+					chunk.add(request, event.line());
+				} catch (ICalendarFormatException exception) {
+					failed++;
+					addError(errors, exception.getLine(), exception.getMessage());
+				} catch (EventException exception) {
+					failed++;
+					addError(errors, event.line(), exception.getMessage());
+				}
+
+				if (chunk.size() == CHUNK_SIZE) {
+					int saved = save(chunk, errors);
+					imported += saved;
+					failed += chunk.size() - saved;
+					chunk.clear();
+				}
+			}
+		} catch (ICalendarFormatException exception) {
+			// 파일 구조가 깨져 더 읽을 수 없음: 여기까지만 저장하고 보고한다.
+			failed++;
+			addError(errors, exception.getLine(), exception.getMessage());
+		} catch (IOException exception) {
+			throw new UncheckedIOException(exception);
+		}
+		int saved = save(chunk, errors);
+		imported += saved;
+		failed += chunk.size() - saved;
+
+		long elapsedNanos = System.nanoTime() - startedAt;
+		double eventsPerSecond = elapsedNanos == 0 ? 0 : imported * 1_000_000_000.0 / elapsedNanos;
+		log.info("일정 가져오기: imported={}, failed={}, {} events/s", imported, failed, Math.round(eventsPerSecond));
+		return new EventImportResDto(imported, failed, errors, elapsedNanos / 1_000_000, eventsPerSecond);
+	}
+
+	// 저장된 일정 수. 청크는 한 트랜잭션이라 실패하면 0건이고, 청크의 줄 범위를 오류로 남긴다.
+	private int save(Chunk chunk, List<EventImportResDto.LineError> errors) {
+		if (chunk.size() == 0) {
+			return 0;
+		}
+		try {
+			return eventService.createEvents(chunk.requests).size();
+		} catch (RuntimeException exception) {
+			log.warn("일정 가져오기 청크 저장 실패: lines={}~{}", chunk.firstLine, chunk.lastLine, exception);
+			addError(errors, chunk.firstLine, "일정 " + chunk.size() + "건을 저장하지 못했습니다. (" + chunk.firstLine
+				+ "~" + chunk.lastLine + "번째 줄)");
+			return 0;
+		}
+	}
+
+	// 저장 대기 중인 일정과 그 VEVENT들이 시작된 줄 범위
+	private static class Chunk {
+
+		private final List<EventReqDto> requests = new ArrayList<>(CHUNK_SIZE);
+		private int firstLine;
+		private int lastLine;
+
+		void add(EventReqDto request, int line) {
+			if (requests.isEmpty()) {
+				firstLine = line;
+			}
+			requests.add(request);
+			lastLine = line;
+		}
+
+		int size() {
+			return requests.size();
+		}
+
+		void clear() {
+			requests.clear();
+		}
+	}
+
+	private static void addError(List<EventImportResDto.LineError> errors, int line, String message) {
+		if (errors.size() < MAX_REPORTED_ERRORS) {
+			errors.add(new EventImportResDto.LineError(line, message));
+		}
+	}
+}
@@ -1,22 +1,61 @@
 package ita.growin.domain.event.service;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import ita.growin.domain.event.cache.EventChangeTracker;
+import ita.growin.domain.event.cache.EventMonthCache;
+import ita.growin.domain.event.cache.EventMonthRange;
 import ita.growin.domain.event.converter.EventConverter;
+import ita.growin.domain.event.dto.request.EventCursor;
+import ita.growin.domain.event.dto.request.EventPatchReqDto;
 import ita.growin.domain.event.dto.request.EventReqDto;
+import ita.growin.domain.event.dto.request.EventUpdateReqDto;
+import ita.growin.domain.event.dto.response.EventChangeResDto;
+import ita.growin.domain.event.dto.response.EventChangesResDto;
 import ita.growin.domain.event.dto.response.EventDetailResDto;
 import ita.growin.domain.event.dto.response.EventListResDto;
 import ita.growin.domain.event.dto.response.EventResDto;
+import ita.growin.domain.event.dto.response.EventWithTasksResDto;
 import ita.growin.domain.event.entity.Event;
+import ita.growin.domain.event.enums.EventChangeType;
+import ita.growin.domain.event.recurrence.EventOccurrence;
+import ita.growin.domain.event.recurrence.EventOccurrenceCache;
+import ita.growin.domain.event.recurrence.EventSeries;
+import ita.growin.domain.event.recurrence.RecurrenceExpander;
+import ita.growin.domain.event.recurrence.RecurrenceRule;
+import ita.growin.domain.event.repository.EventChangeRepository;
 import ita.growin.domain.event.repository.EventRepository;
 import ita.growin.domain.event.validator.EventValidator;
+import ita.growin.domain.task.dto.response.TaskResDto;
+import ita.growin.domain.task.repository.TaskRepository;
+import ita.growin.global.datasource.ReplicationRoutingDataSource;
 import ita.growin.global.exception.EventException;
 import ita.growin.global.exception.errorcode.EventErrorCode;
+import ita.growin.global.response.CursorSlice;
 import jakarta.validation.Valid;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
@@ -28,14 +67,37 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor(access = AccessLevel.PROTECTED)
 public class EventService {
 
+	// 발생 일정 정렬: 시작일 → 시작 시간 (하루 종일 먼저) → 일정 ID
+	private static final Comparator<EventOccurrence> OCCURRENCE_ORDER = Comparator
+		.comparing(EventOccurrence::startDate)
+		.thenComparing(occurrence -> occurrence.series().startTime(),
+			Comparator.nullsFirst(Comparator.<LocalTime>naturalOrder()))
+		.thenComparing(occurrence -> occurrence.series().id());
+
+	// 커서 조회 정렬: 커서 키와 같은 시작일 → 일정 ID
+	private static final Comparator<EventOccurrence> CURSOR_ORDER = Comparator
+		.comparing(EventOccurrence::startDate)
+		.thenComparing(occurrence -> occurrence.series().id());
+
+	private static final int MAX_SLICE_SIZE = 100;
+
+	private static final int MAX_CHANGES_SIZE = 500;
+
 	private final EventRepository eventRepository;
+	private final EventChangeRepository eventChangeRepository;
+	private final EventChangePublisher eventChangePublisher;
+	private final TaskRepository taskRepository;
+	private final EventOccurrenceCache eventOccurrenceCache;
+	private final EventMonthCache eventMonthCache;
+	private final EventChangeTracker eventChangeTracker;
 
 	public EventResDto createEvent(EventReqDto request) {
 		Event event = EventConverter.toEntity(request);
-		EventValidator.validateEventDay(event);
-		event.getRepeatType().validateCount(event.getRepeatCount());
+		validate(event);
 		//유저와 연관관계
 		Event savedEvent = eventRepository.save(event);
+		recordChanges(List.of(savedEvent.getId()), EventChangeType.UPSERT);
+		eventMonthCache.evict(EventMonthRange.of(savedEvent));
 		return EventConverter.toResponse(savedEvent);
 	}
 
@@ -43,7 +105,32 @@ public class EventService {
 		Event event = eventRepository.findById(eventId)
 			.orElseThrow(() -> new EventException(EventErrorCode.EVENT_NOT_FOUND));
 		// 수정 권한 검증
+		EventMonthRange previousRange = EventMonthRange.of(event);
 		event.update(request);
+		validate(event);
+		flushVersioned();
+		recordChanges(List.of(eventId), EventChangeType.UPSERT);
+		eventMonthCache.evict(previousRange);
+		eventMonthCache.evict(EventMonthRange.of(event));
+		return EventConverter.toResponse(event);
+	}
+
+	// 부분 수정: 값이 있는 필드만 반영하고 바뀐 컬럼만 UPDATE한다.
+	// version이 있으면 (2차 캐시에서 읽은) 현재 버전과 비교해 다르면 거절한다. 읽은 뒤 다른 요청이 먼저 커밋했다면
+	// @Version 조건으로 UPDATE가 0건이 되어 flush에서 같은 충돌이 된다. 엔티티 단위 수정이라 2차 캐시에서는 이 일정만 갱신된다.
+	public EventResDto patchEvent(long eventId, EventPatchReqDto request) {
+		Event event = eventRepository.findById(eventId)
+			.orElseThrow(() -> new EventException(EventErrorCode.EVENT_NOT_FOUND));
+		// 수정 권한 검증
+		if (request.version() != null && !request.version().equals(event.getVersion())) {
+			throw new EventException(EventErrorCode.EVENT_VERSION_CONFLICT);
+		}
+		EventMonthRange previousRange = EventMonthRange.of(event);
+		event.patch(request);
+		validate(event);
+		flushVersioned();
+		recordChanges(List.of(eventId), EventChangeType.UPSERT);
+		eventMonthCache.evictAll(List.of(previousRange, EventMonthRange.of(event)));
 		return EventConverter.toResponse(event);
 	}
 
@@ -51,30 +138,292 @@ public class EventService {
 		Event event = eventRepository.findById(eventId)
 			.orElseThrow(() -> new EventException(EventErrorCode.EVENT_NOT_FOUND));
 		// 삭제 권한 검증
+		eventMonthCache.evict(EventMonthRange.of(event));
+		recordChanges(List.of(eventId), EventChangeType.DELETE);
 		eventRepository.delete(event);
 	}
 
+	// 일괄 생성: 전체를 먼저 검증한 뒤 한 트랜잭션에서 저장한다. INSERT는 hibernate.jdbc.batch_size 단위로 묶인다.
+	public List<EventResDto> createEvents(List<EventReqDto> requests) {
+		List<Event> events = requests.stream()
+			.map(EventConverter::toEntity)
+			.toList();
+		events.forEach(EventService::validate);
+
+		List<Event> savedEvents = eventRepository.saveAll(events);
+		recordChanges(savedEvents.stream().map(Event::getId).toList(), EventChangeType.UPSERT);
+		eventMonthCache.evictAll(savedEvents.stream().map(EventMonthRange::of).toList());
+		return savedEvents.stream()
+			.map(EventConverter::toResponse)
+			.toList();
+	}
+
+	public List<EventResDto> updateEvents(List<EventUpdateReqDto> requests) {
+		requests.forEach(request -> validate(EventConverter.toEntity(request.event())));
+
+		Map<Long, Event> events = findAllByIds(requests.stream().map(EventUpdateReqDto::eventId).toList());
+		// 수정 권한 검증
+		List<EventMonthRange> ranges = new ArrayList<>(requests.size() * 2);
+		List<EventResDto> responses = new ArrayList<>(requests.size());
+		for (EventUpdateReqDto request : requests) {
+			Event event = events.get(request.eventId());
+			ranges.add(EventMonthRange.of(event));
+			event.update(request.event());
+			ranges.add(EventMonthRange.of(event));
+			responses.add(EventConverter.toResponse(event));
+		}
+		flushVersioned();
+		recordChanges(events.keySet(), EventChangeType.UPSERT);
+		eventMonthCache.evictAll(ranges);
+		return responses;
+	}
+
+	// 할 일과 일정을 각각 한 번의 DELETE로 삭제한다.
+	public void deleteEvents(List<Long> eventIds) {
+		Map<Long, Event> events = findAllByIds(eventIds);
+		// 삭제 권한 검증
+		eventMonthCache.evictAll(events.values().stream().map(EventMonthRange::of).toList());
+		recordChanges(events.keySet(), EventChangeType.DELETE);
+		taskRepository.deleteAllByEventIds(events.keySet());
+		eventRepository.deleteAllByIdInBatch(events.keySet());
+	}
+
+	// 전체 일정(시리즈)을 반복 전개 없이 한 건씩 consumer로 넘긴다. (내보내기용, 메모리 사용량 일정)
+	@Transactional(readOnly = true)
+	public void streamAllEvents(Consumer<EventSeries> consumer) {
+		try (Stream<EventSeries> events = eventRepository.streamAllSeries()) {
+			events.forEach(consumer);
+		}
+	}
+
+	// 델타 동기화: since 토큰 이후 생성/수정/삭제된 일정. 같은 일정의 여러 변경은 마지막 것만 내려간다.
+	// since 없이 요청하면 처음부터 받는다. 토큰은 커밋 순서대로 발급되므로 토큰 이후만 읽어도 빠지는 변경이 없다.
+	@Transactional(readOnly = true)
+	public EventChangesResDto getChangesSince(String since, int size) {
+		long token = decodeChangeToken(since);
+		int limit = Math.min(Math.max(size, 1), MAX_CHANGES_SIZE);
+		List<EventChangeResDto> rows = eventChangeRepository.findAllAfter(token, PageRequest.of(0, limit + 1));
+
+		boolean hasNext = rows.size() > limit;
+		List<EventChangeResDto> window = hasNext ? rows.subList(0, limit) : rows;
+		Map<Long, EventChangeResDto> latest = new LinkedHashMap<>();
+		for (EventChangeResDto row : window) {
+			latest.remove(row.eventId());
+			latest.put(row.eventId(), row.resolve());
+		}
+		long nextToken = window.isEmpty() ? token : window.get(window.size() - 1).changeId();
+		return new EventChangesResDto(List.copyOf(latest.values()), Long.toString(nextToken), hasNext);
+	}
+
+	// 월별 조회의 ETag 버전 (해당 달의 변경 표시 + 페이지 조건, DB 조회 없음)
+	@Transactional(propagation = Propagation.SUPPORTS)
+	public String getMonthVersion(int year, int month, Pageable pageable) {
+		if (month < 1 || month > 12) {
+			throw new EventException(EventErrorCode.INVALID_DATE_RANGE);
+		}
+		YearMonth yearMonth = YearMonth.of(year, month);
+		return "m" + yearMonth + "-" + eventChangeTracker.monthVersion(yearMonth)
+			+ "-" + Integer.toHexString(pageable.hashCode());
+	}
+
+	// 응답의 version은 본문과 같은 행에서 읽은 값이라 ETag로 그대로 쓴다. (replica가 지연되어도 본문과 ETag가 어긋나지 않는다)
+	@Transactional(readOnly = true)
 	public EventDetailResDto getEventDetail(long eventId) {
 		Event event = eventRepository.findById(eventId)
 			.orElseThrow(() -> new EventException(EventErrorCode.EVENT_NOT_FOUND));
 		return EventConverter.toEventDetailResponse(event);
 	}
 
+	// 결과가 인스턴스 공유 캐시(EventMonthCache)에 들어가므로 읽기 전용이지만 replica가 아닌 primary에서 읽는다.
+	// 캐시 적중 시에는 SQL이 없어 커넥션도 얻지 않는다. (LazyConnectionDataSourceProxy)
+	@Transactional(readOnly = true, label = ReplicationRoutingDataSource.PRIMARY_LABEL)
 	public Page<EventResDto> getEventsByMonth(int year, int month, Pageable pageable) {
 		if (month < 1 || month > 12) {
 			throw new EventException(EventErrorCode.INVALID_DATE_RANGE);
 		}
 
-		LocalDate startDate = LocalDate.of(year, month, 1);
-		LocalDate endDate = startDate.withDayOfMonth(startDate.lengthOfMonth());
+		YearMonth yearMonth = YearMonth.of(year, month);
+		return eventMonthCache.get(yearMonth, pageable, () -> loadEventsByMonth(yearMonth, pageable));
+	}
+
+	private Page<EventResDto> loadEventsByMonth(YearMonth yearMonth, Pageable pageable) {
+		LocalDate startDate = yearMonth.atDay(1);
+		LocalDate endDate = yearMonth.atEndOfMonth();
 
-		Page<Event> events = eventRepository.findAllByMonth(startDate, endDate, pageable);
+		List<EventSeries> events = eventRepository.findAllByMonth(startDate, endDate);
+		List<EventOccurrence> occurrences = expand(events, startDate, endDate, OCCURRENCE_ORDER);
 
-		return events.map(EventConverter::toResponse);
+		return toPage(occurrences, pageable).map(EventConverter::toResponse);
 	}
 
+	@Transactional(readOnly = true)
 	public Page<EventListResDto> getEventsByDate(LocalDate date, Pageable pageable) {
-		Page<Event> events = eventRepository.findAllByDate(date, pageable);
-		return events.map(EventConverter::toEventListResponse);
+		List<EventSeries> events = eventRepository.findAllByDate(date);
+		List<EventOccurrence> occurrences = expand(events, date, date, OCCURRENCE_ORDER);
+		return toPage(occurrences, pageable).map(EventConverter::toEventListResponse);
+	}
+
+	// 일정 + 할 일: 일정 프로젝션 조회 1번 + 현재 페이지 일정들의 할 일 IN 조회 1번 (일정 수와 무관)
+	@Transactional(readOnly = true)
+	public Page<EventWithTasksResDto> getEventsWithTasksByMonth(int year, int month, Pageable pageable) {
+		if (month < 1 || month > 12) {
+			throw new EventException(EventErrorCode.INVALID_DATE_RANGE);
+		}
+
+		YearMonth yearMonth = YearMonth.of(year, month);
+		LocalDate startDate = yearMonth.atDay(1);
+		LocalDate endDate = yearMonth.atEndOfMonth();
+
+		List<EventSeries> events = eventRepository.findAllByMonth(startDate, endDate);
+		Page<EventOccurrence> page = toPage(expand(events, startDate, endDate, OCCURRENCE_ORDER), pageable);
+		return withTasks(page);
+	}
+
+	@Transactional(readOnly = true)
+	public Page<EventWithTasksResDto> getEventsWithTasksByDate(LocalDate date, Pageable pageable) {
+		List<EventSeries> events = eventRepository.findAllByDate(date);
+		Page<EventOccurrence> page = toPage(expand(events, date, date, OCCURRENCE_ORDER), pageable);
+		return withTasks(page);
+	}
+
+	@Transactional(readOnly = true)
+	public CursorSlice<EventResDto> getEventSliceByMonth(int year, int month, String cursor, int size) {
+		if (month < 1 || month > 12) {
+			throw new EventException(EventErrorCode.INVALID_DATE_RANGE);
+		}
+
+		YearMonth yearMonth = YearMonth.of(year, month);
+		LocalDate startDate = yearMonth.atDay(1);
+		LocalDate endDate = yearMonth.atEndOfMonth();
+
+		List<EventSeries> events = eventRepository.findAllByMonth(startDate, endDate);
+		List<EventOccurrence> occurrences = expand(events, startDate, endDate, CURSOR_ORDER);
+		return toSlice(occurrences, EventCursor.decode(cursor), size, EventConverter::toResponse);
+	}
+
+	@Transactional(readOnly = true)
+	public CursorSlice<EventListResDto> getEventSliceByDate(LocalDate date, String cursor, int size) {
+		List<EventSeries> events = eventRepository.findAllByDate(date);
+		List<EventOccurrence> occurrences = expand(events, date, date, CURSOR_ORDER);
+		return toSlice(occurrences, EventCursor.decode(cursor), size, EventConverter::toEventListResponse);
+	}
+
+	// 기간 내 발생 일정을 한 건씩 consumer로 넘긴다. 프로젝션이라 영속성 컨텍스트에 쌓이지 않아 메모리 사용량이 일정하다.
+	// 일정(시리즈)의 시작일 순서로 전달되며, 반복 일정의 발생 일정은 해당 시리즈 안에서만 정렬된다.
+	@Transactional(readOnly = true)
+	public void streamEventsInRange(LocalDate from, LocalDate to, Consumer<EventResDto> consumer) {
+		EventValidator.validateQueryRange(from, to);
+
+		LocalDate spanFrom = from.minusDays(EventValidator.MAX_EVENT_SPAN_DAYS);
+		try (Stream<EventSeries> events = eventRepository.streamAllInRange(spanFrom, from, to)) {
+			events.forEach(series -> {
+				long span = series.rule().spanDays();
+				RecurrenceExpander.occurrenceStarts(series.rule(), from, to)
+					.map(start -> new EventOccurrence(series, start, start.plusDays(span)))
+					.map(EventConverter::toResponse)
+					.forEach(consumer);
+			});
+		}
+	}
+
+	private Page<EventWithTasksResDto> withTasks(Page<EventOccurrence> page) {
+		Set<Long> eventIds = page.stream()
+			.map(occurrence -> occurrence.series().id())
+			.collect(Collectors.toSet());
+		Map<Long, List<TaskResDto>> tasksByEvent = eventIds.isEmpty()
+			? Map.of()
+			: taskRepository.findAllByEventIds(eventIds).stream()
+				.collect(Collectors.groupingBy(TaskResDto::eventId));
+
+		return page.map(occurrence -> EventConverter.toEventWithTasksResponse(
+			occurrence, tasksByEvent.getOrDefault(occurrence.series().id(), List.of())));
+	}
+
+	// 같은 트랜잭션에 기록하고 토큰은 커밋 이후에 발급한다. (EventChangePublisher)
+	private void recordChanges(Collection<Long> eventIds, EventChangeType type) {
+		String batch = UUID.randomUUID().toString();
+		eventChangeRepository.record(eventIds, type, LocalDateTime.now(), batch);
+		eventChangePublisher.publishAfterCommit(batch);
+	}
+
+	private static long decodeChangeToken(String since) {
+		if (since == null || since.isBlank()) {
+			return 0;
+		}
+		try {
+			long token = Long.parseLong(since);
+			if (token < 0) {
+				throw new EventException(EventErrorCode.INVALID_CURSOR);
+			}
+			return token;
+		} catch (NumberFormatException exception) {
+			throw new EventException(EventErrorCode.INVALID_CURSOR);
+		}
+	}
+
+	// @Version 충돌을 커밋 시점(500)이 아니라 여기서 감지해 EVENT_VERSION_CONFLICT로 응답한다.
+	private void flushVersioned() {
+		try {
+			eventRepository.flush();
+		} catch (OptimisticLockingFailureException exception) {
+			throw new EventException(EventErrorCode.EVENT_VERSION_CONFLICT);
+		}
+	}
+
+	static void validate(Event event) {
+		EventValidator.validateEventDay(event);
+		event.getRepeatType().validateCount(event.getRepeatCount());
+	}
+
+	// ID 목록을 한 번의 IN 조회로 가져온다. 중복 ID나 존재하지 않는 ID가 있으면 예외
+	private Map<Long, Event> findAllByIds(List<Long> eventIds) {
+		if (eventIds.stream().distinct().count() != eventIds.size()) {
+			throw new EventException(EventErrorCode.DUPLICATE_EVENT_ID);
+		}
+		Map<Long, Event> events = eventRepository.findAllById(eventIds).stream()
+			.collect(Collectors.toMap(Event::getId, Function.identity()));
+		if (events.size() != eventIds.size()) {
+			throw new EventException(EventErrorCode.EVENT_NOT_FOUND);
+		}
+		return events;
+	}
+
+	// 후보 일정들을 조회 구간 안의 발생 일정으로 전개
+	private List<EventOccurrence> expand(List<EventSeries> events, LocalDate windowStart, LocalDate windowEnd,
+		Comparator<EventOccurrence> order) {
+		List<EventOccurrence> occurrences = new ArrayList<>(events.size());
+		for (EventSeries series : events) {
+			RecurrenceRule rule = series.rule();
+			long span = rule.spanDays();
+			for (LocalDate start : eventOccurrenceCache.occurrenceStarts(series.id(), rule, windowStart, windowEnd)) {
+				occurrences.add(new EventOccurrence(series, start, start.plusDays(span)));
+			}
+		}
+		occurrences.sort(order);
+		return occurrences;
+	}
+
+	// CURSOR_ORDER로 정렬된 발생 일정에서 커서 이후 size건을 자른다. size + 1건을 확인해 다음 존재 여부를 판단한다.
+	private static <T> CursorSlice<T> toSlice(List<EventOccurrence> sorted, EventCursor cursor, int size,
+		Function<EventOccurrence, T> mapper) {
+		int limit = Math.min(Math.max(size, 1), MAX_SLICE_SIZE);
+		List<EventOccurrence> window = sorted.stream()
+			.filter(occurrence -> cursor == null || cursor.precedes(occurrence))
+			.limit(limit + 1L)
+			.toList();
+
+		boolean hasNext = window.size() > limit;
+		List<EventOccurrence> content = hasNext ? window.subList(0, limit) : window;
+		String nextCursor = hasNext ? EventCursor.of(content.get(content.size() - 1)).encode() : null;
+		return CursorSlice.of(content.stream().map(mapper).toList(), nextCursor);
+	}
+
+	private static <T> Page<T> toPage(List<T> content, Pageable pageable) {
+		if (pageable.isUnpaged()) {
+			return new PageImpl<>(content, pageable, content.size());
+		}
+		int from = (int)Math.min(pageable.getOffset(), content.size());
+		int to = Math.min(from + pageable.getPageSize(), content.size());
+		return new PageImpl<>(content.subList(from, to), pageable, content.size());
 	}
 }
@@ -0,0 +1,79 @@
+package ita.growin.domain.event.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import ita.growin.domain.event.dto.response.FreeBusyResDto;
+import ita.growin.domain.event.recurrence.BusyIntervals;
+import ita.growin.domain.event.recurrence.EventSeries;
+import ita.growin.domain.event.recurrence.RecurrenceExpander;
+import ita.growin.domain.event.recurrence.RecurrenceRule;
+import ita.growin.domain.event.repository.EventRepository;
+import ita.growin.domain.event.validator.EventValidator;
+import ita.growin.domain.user.repository.UserRepository;
+import ita.growin.global.exception.BusinessException;
+import ita.growin.global.exception.errorcode.BusinessErrorCode;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor(access = AccessLevel.PROTECTED)
+public class FreeBusyService {
+
+	private final EventRepository eventRepository;
+	private final UserRepository userRepository;
+
+	// from ~ to(포함) 동안 사용자의 바쁜 구간. 종일 일정은 하루 전체, 반복 일정은 발생 일정마다 구간이 된다.
+	// 조회 구간마다 창이 달라 발생 일정 캐시(EventOccurrenceCache)를 거치지 않고 바로 전개한다.
+	public FreeBusyResDto getFreeBusy(long userId, LocalDate from, LocalDate to) {
+		EventValidator.validateQueryRange(from, to);
+		if (!userRepository.existsById(userId)) {
+			throw new BusinessException(BusinessErrorCode.MEMBER_NOT_FOUND);
+		}
+
+		long windowStart = toEpochSecond(from.atStartOfDay());
+		long windowEnd = toEpochSecond(to.plusDays(1).atStartOfDay());
+		List<EventSeries> events = eventRepository.findAllInRangeByUser(
+			userId, from.minusDays(EventValidator.MAX_EVENT_SPAN_DAYS), from, to);
+
+		BusyIntervals intervals = new BusyIntervals(events.size());
+		for (EventSeries series : events) {
+			RecurrenceRule rule = series.rule();
+			long span = rule.spanDays();
+			boolean allDay = Boolean.TRUE.equals(series.allDay()) || series.startTime() == null || series.endTime() == null;
+			LocalTime startTime = allDay ? LocalTime.MIDNIGHT : series.startTime();
+			RecurrenceExpander.occurrenceStarts(rule, from, to).forEach(start -> {
+				LocalDateTime end = allDay
+					? start.plusDays(span + 1).atStartOfDay()
+					: start.plusDays(span).atTime(series.endTime());
+				intervals.add(
+					Math.max(toEpochSecond(start.atTime(startTime)), windowStart),
+					Math.min(toEpochSecond(end), windowEnd));
+			});
+		}
+
+		long[] merged = intervals.merge();
+		List<FreeBusyResDto.BusyInterval> busy = new ArrayList<>(merged.length / 2);
+		for (int i = 0; i < merged.length; i += 2) {
+			busy.add(new FreeBusyResDto.BusyInterval(toDateTime(merged[i]), toDateTime(merged[i + 1])));
+		}
+		return new FreeBusyResDto(toDateTime(windowStart), toDateTime(windowEnd), busy);
+	}
+
+	// 일정 시각은 시간대가 없으므로 계산용으로만 UTC 기준 초로 바꾼다.
+	private static long toEpochSecond(LocalDateTime dateTime) {
+		return dateTime.toEpochSecond(ZoneOffset.UTC);
+	}
+
+	private static LocalDateTime toDateTime(long epochSecond) {
+		return LocalDateTime.ofEpochSecond(epochSecond, 0, ZoneOffset.UTC);
+	}
+}
@@ -1,5 +1,8 @@
 package ita.growin.domain.event.validator;
 
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
 import ita.growin.domain.event.entity.Event;
 import ita.growin.global.exception.EventException;
 import ita.growin.global.exception.errorcode.EventErrorCode;
@@ -7,12 +10,22 @@ import lombok.experimental.UtilityClass;
 
 @UtilityClass
 public class EventValidator {
+
+	// 한 일정의 최대 기간 (종료일 - 시작일). 기간 조회 시 시작일 인덱스 범위의 하한으로 사용된다.
+	public static final long MAX_EVENT_SPAN_DAYS = 365;
+
+	// 기간 조회(from ~ to)의 최대 길이
+	public static final long MAX_QUERY_RANGE_DAYS = 366;
+
 	public static void validateEventDay(Event event) {
 
 		if (event.getStartDate() != null && event.getEndDate() != null) {
 			if (event.getEndDate().isBefore(event.getStartDate())) {
 				throw new EventException(EventErrorCode.INVALID_DATE_RANGE);
 			}
+			if (ChronoUnit.DAYS.between(event.getStartDate(), event.getEndDate()) > MAX_EVENT_SPAN_DAYS) {
+				throw new EventException(EventErrorCode.EVENT_PERIOD_TOO_LONG);
+			}
 		}
 
 		if (Boolean.TRUE.equals(event.getAllDay())) {
@@ -22,6 +35,15 @@ public class EventValidator {
 		}
 	}
 
+	public static void validateQueryRange(LocalDate from, LocalDate to) {
+		if (to.isBefore(from)) {
+			throw new EventException(EventErrorCode.INVALID_DATE_RANGE);
+		}
+		if (ChronoUnit.DAYS.between(from, to) > MAX_QUERY_RANGE_DAYS) {
+			throw new EventException(EventErrorCode.QUERY_RANGE_TOO_LONG);
+		}
+	}
+
 	public static void clearTimesIfAllDay(Event event) {
 		if(Boolean.TRUE.equals(event.getAllDay())){
 			event.clearTimeIfAllDay();
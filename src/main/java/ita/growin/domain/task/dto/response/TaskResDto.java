@@ -0,0 +1,13 @@
+package ita.growin.domain.task.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "할 일 응답 DTO")
+public record TaskResDto(
+	@Schema(description = "할 일 ID", example = "1")
+	Long taskId,
+
+	@Schema(description = "일정 ID", example = "1")
+	Long eventId
+) {
+}
@@ -0,0 +1,29 @@
+package ita.growin.domain.task.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import ita.growin.domain.task.dto.response.TaskResDto;
+import ita.growin.domain.task.entity.Task;
+
+public interface TaskRepository extends JpaRepository<Task, Long> {
+
+	// 여러 일정의 할 일을 한 번에 조회 (일정 목록 + 할 일 조회를 쿼리 2번으로 고정)
+	@Query("""
+		SELECT new ita.growin.domain.task.dto.response.TaskResDto(t.id, t.event.id)
+		FROM Task t
+		WHERE t.event.id IN :eventIds
+		ORDER BY t.id
+		""")
+	List<TaskResDto> findAllByEventIds(@Param("eventIds") Collection<Long> eventIds);
+
+	// 일정 일괄 삭제 시 연관된 할 일을 한 번의 DELETE로 정리
+	@Modifying
+	@Query("DELETE FROM Task t WHERE t.event.id IN :eventIds")
+	int deleteAllByEventIds(@Param("eventIds") Collection<Long> eventIds);
+}
@@ -0,0 +1,42 @@
+package ita.growin.domain.user.controller;
+
+import java.time.LocalDate;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import ita.growin.domain.event.dto.response.FreeBusyResDto;
+import ita.growin.domain.event.service.FreeBusyService;
+import ita.growin.global.response.APIResponse;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/users")
+@RequiredArgsConstructor(access = AccessLevel.PROTECTED)
+@Tag(name = "사용자", description = "사용자 관련 API")
+public class UserController {
+
+	private final FreeBusyService freeBusyService;
+
+	@GetMapping("/{userId}/freebusy")
+	@Operation(summary = "바쁜 시간 조회 API",
+		description = """
+    	from ~ to 기간(최대 1년) 동안 사용자의 일정(반복 일정 포함)을 합친 바쁜 구간을 조회합니다.
+    	from, to는 YYYY-MM-DD 형식이며, to 날짜의 끝까지 포함합니다.
+    """
+	)
+	public APIResponse<FreeBusyResDto> getFreeBusy(
+		@PathVariable long userId,
+		@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+		@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+		FreeBusyResDto response = freeBusyService.getFreeBusy(userId, from, to);
+		return APIResponse.success(response);
+	}
+}
@@ -0,0 +1,8 @@
+package ita.growin.domain.user.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import ita.growin.domain.user.entity.User;
+
+public interface UserRepository extends JpaRepository<User, Long> {
+}
@@ -1,20 +1,58 @@
 package ita.growin.global.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import ita.growin.global.ratelimit.RateLimitFilter;
+import ita.growin.global.ratelimit.RateLimiter;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.intercept.AuthorizationFilter;
 
 @Configuration
 public class SecurityConfig {
 
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(
+            HttpSecurity http, ObjectProvider<RateLimitFilter> rateLimitFilter) throws Exception {
         http.csrf(AbstractHttpConfigurer::disable)
                 .authorizeHttpRequests(auth -> auth.anyRequest().permitAll())
                 .formLogin(AbstractHttpConfigurer::disable)
                 .httpBasic(AbstractHttpConfigurer::disable);
+        // 사용자/IP별 요청 수 제한: 인증 필터 뒤(사용자 식별 가능), 인가 전에 실행
+        rateLimitFilter.ifAvailable(filter -> http.addFilterBefore(filter, AuthorizationFilter.class));
         return http.build();
     }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "growin.rate-limit", name = "enabled", matchIfMissing = true)
+    public RateLimitFilter rateLimitFilter(
+            @Value("${growin.rate-limit.read.capacity:100}") long readCapacity,
+            @Value("${growin.rate-limit.read.per-second:20}") double readPerSecond,
+            @Value("${growin.rate-limit.write.capacity:30}") long writeCapacity,
+            @Value("${growin.rate-limit.write.per-second:5}") double writePerSecond,
+            @Value("${growin.rate-limit.max-clients:100000}") long maxClients,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry) {
+        return new RateLimitFilter(
+                new RateLimiter(readCapacity, readPerSecond, maxClients),
+                new RateLimiter(writeCapacity, writePerSecond, maxClients),
+                objectMapper,
+                meterRegistry);
+    }
+
+    // 서블릿 필터로 한 번 더 등록되지 않도록 한다. (SecurityFilterChain 안에서만 실행)
+    @Bean
+    @ConditionalOnProperty(prefix = "growin.rate-limit", name = "enabled", matchIfMissing = true)
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilterRegistration(RateLimitFilter rateLimitFilter) {
+        FilterRegistrationBean<RateLimitFilter> registration = new FilterRegistrationBean<>(rateLimitFilter);
+        registration.setEnabled(false);
+        return registration;
+    }
 }
@@ -0,0 +1,22 @@
+package ita.growin.global.datasource;
+
+import lombok.experimental.UtilityClass;
+
+// 현재 요청의 읽기를 primary로 고정할지 여부 (방금 쓴 클라이언트의 읽기가 복제 지연에 걸리지 않도록)
+@UtilityClass
+public class ReadYourWrites {
+
+	private static final ThreadLocal<Boolean> STICKY = new ThreadLocal<>();
+
+	public static void stick() {
+		STICKY.set(Boolean.TRUE);
+	}
+
+	public static boolean isSticky() {
+		return Boolean.TRUE.equals(STICKY.get());
+	}
+
+	public static void clear() {
+		STICKY.remove();
+	}
+}
@@ -0,0 +1,75 @@
+package ita.growin.global.datasource;
+
+import java.io.IOException;
+import java.time.Duration;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+// 쓰기 요청(GET/HEAD/OPTIONS 외)을 보낸 클라이언트에 만료 시각 쿠키를 내려주고,
+// 쿠키가 유효한 동안에는 그 클라이언트의 읽기도 primary에서 처리한다. (서버 상태 없이 인스턴스 간에도 유지)
+// 응답 본문을 쓰기 전에 쿠키를 붙여야 하므로 요청 처리 전에 설정한다.
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+	static final String COOKIE_NAME = "growin-rw";
+
+	private final Duration stickyDuration;
+
+	public ReadYourWritesFilter(Duration stickyDuration) {
+		this.stickyDuration = stickyDuration;
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+		throws ServletException, IOException {
+		if (isWrite(request.getMethod())) {
+			long until = System.currentTimeMillis() + stickyDuration.toMillis();
+			ResponseCookie cookie = ResponseCookie.from(COOKIE_NAME, Long.toString(until))
+				.maxAge(stickyDuration)
+				.path("/")
+				.httpOnly(true)
+				.sameSite("Lax")
+				.build();
+			response.addHeader(HttpHeaders.SET_COOKIE, cookie.toString());
+			filterChain.doFilter(request, response);
+			return;
+		}
+
+		if (recentlyWrote(request)) {
+			ReadYourWrites.stick();
+		}
+		try {
+			filterChain.doFilter(request, response);
+		} finally {
+			ReadYourWrites.clear();
+		}
+	}
+
+	private static boolean isWrite(String method) {
+		return !("GET".equals(method) || "HEAD".equals(method) || "OPTIONS".equals(method));
+	}
+
+	private static boolean recentlyWrote(HttpServletRequest request) {
+		Cookie[] cookies = request.getCookies();
+		if (cookies == null) {
+			return false;
+		}
+		for (Cookie cookie : cookies) {
+			if (COOKIE_NAME.equals(cookie.getName())) {
+				try {
+					return Long.parseLong(cookie.getValue()) > System.currentTimeMillis();
+				} catch (NumberFormatException exception) {
+					return false;
+				}
+			}
+		}
+		return false;
+	}
+}
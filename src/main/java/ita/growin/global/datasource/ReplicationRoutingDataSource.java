@@ -0,0 +1,37 @@
+package ita.growin.global.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.interceptor.TransactionAttribute;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// 읽기 전용 트랜잭션은 replica, 그 외(쓰기, 트랜잭션 밖, read-your-writes 고정, primary 라벨)는 primary.
+// 트랜잭션 시작 시점에는 읽기 전용 여부가 아직 설정되지 않으므로 LazyConnectionDataSourceProxy로 감싸 첫 SQL 시점에 고른다.
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource {
+
+	public static final String PRIMARY = "primary";
+	public static final String REPLICA = "replica";
+
+	// 읽기 전용이지만 replica 지연을 허용하지 않는 트랜잭션 (결과가 인스턴스 공유 캐시에 들어가는 조회 등)
+	// @Transactional(readOnly = true, label = ReplicationRoutingDataSource.PRIMARY_LABEL)
+	public static final String PRIMARY_LABEL = "growin.datasource.primary";
+
+	// primary 라벨 트랜잭션이 진행 중임을 나타내는 트랜잭션 리소스 키 (ReplicationTransactionManager가 바인딩)
+	static final Object PINNED_TO_PRIMARY = new Object();
+
+	@Override
+	protected Object determineCurrentLookupKey() {
+		boolean replica = TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+			&& !TransactionSynchronizationManager.hasResource(PINNED_TO_PRIMARY)
+			&& !ReadYourWrites.isSticky();
+		return replica ? REPLICA : PRIMARY;
+	}
+
+	public static boolean routesToReplica(TransactionDefinition definition) {
+		return definition.isReadOnly() && !isPrimaryLabeled(definition) && !ReadYourWrites.isSticky();
+	}
+
+	static boolean isPrimaryLabeled(TransactionDefinition definition) {
+		return definition instanceof TransactionAttribute attribute && attribute.getLabels().contains(PRIMARY_LABEL);
+	}
+}
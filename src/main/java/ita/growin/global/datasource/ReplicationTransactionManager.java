@@ -0,0 +1,48 @@
+package ita.growin.global.datasource;
+
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// replica로 가는 트랜잭션은 2차 캐시와 쿼리 캐시를 읽기만 하고 채우지 않는다. (CacheMode.GET)
+// replica가 지연된 동안 읽은 이전 행이 인스턴스 공유 캐시에 들어가 다른 클라이언트에게 최신 값처럼 응답되지 않게 한다.
+public class ReplicationTransactionManager extends JpaTransactionManager {
+
+	@Override
+	protected void doBegin(Object transaction, TransactionDefinition definition) {
+		super.doBegin(transaction, definition);
+		EntityManagerHolder holder =
+			(EntityManagerHolder)TransactionSynchronizationManager.getResource(obtainEntityManagerFactory());
+		if (holder == null) {
+			return;
+		}
+		// 같은 EntityManager를 여러 트랜잭션이 쓸 수 있으므로 (open-in-view) 트랜잭션마다 다시 설정한다.
+		CacheMode cacheMode = ReplicationRoutingDataSource.routesToReplica(definition)
+			? CacheMode.GET
+			: CacheMode.NORMAL;
+		holder.getEntityManager().unwrap(Session.class).setCacheMode(cacheMode);
+	}
+
+	// primary 라벨이 붙은 트랜잭션은 끝날 때까지 primary로 라우팅한다. (읽기 전용 설정은 그대로 유지)
+	// 안에서 새로 시작한 트랜잭션(REQUIRES_NEW)도 바깥 트랜잭션이 끝날 때까지 primary를 쓴다.
+	@Override
+	protected void prepareSynchronization(DefaultTransactionStatus status, TransactionDefinition definition) {
+		super.prepareSynchronization(status, definition);
+		if (!status.isNewSynchronization() || !ReplicationRoutingDataSource.isPrimaryLabeled(definition)
+			|| TransactionSynchronizationManager.hasResource(ReplicationRoutingDataSource.PINNED_TO_PRIMARY)) {
+			return;
+		}
+		TransactionSynchronizationManager.bindResource(ReplicationRoutingDataSource.PINNED_TO_PRIMARY, Boolean.TRUE);
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCompletion(int completionStatus) {
+				TransactionSynchronizationManager.unbindResourceIfPossible(ReplicationRoutingDataSource.PINNED_TO_PRIMARY);
+			}
+		});
+	}
+}
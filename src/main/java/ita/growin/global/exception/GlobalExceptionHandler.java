@@ -3,8 +3,10 @@ package ita.growin.global.exception;
 import ita.growin.global.exception.errorcode.CommonErrorCode;
 import ita.growin.global.exception.errorcode.ErrorCode;
 import ita.growin.global.response.APIResponse;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.http.HttpServletRequest;
 import java.util.NoSuchElementException;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -14,12 +16,16 @@ import org.springframework.web.servlet.resource.NoResourceFoundException;
 
 @Slf4j
 @RestControllerAdvice
+@RequiredArgsConstructor
 public class GlobalExceptionHandler {
 
+    private final MeterRegistry meterRegistry;
+
     // 이벤트 에러 처리
     @ExceptionHandler(EventException.class)
     public ResponseEntity<APIResponse<Void>> handleEventException(EventException exception) {
         log.error(exception.getMessage());
+        countError(exception.getErrorCode());
 
         return ResponseEntity.status(exception.getErrorCode().getHttpStatus())
             .body(APIResponse.businessError(exception.getErrorCode()));
@@ -29,6 +35,7 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(BusinessException.class)
     public ResponseEntity<APIResponse<Void>> handleBusinessException(BusinessException exception) {
         log.error(exception.getMessage());
+        countError(exception.getErrorCode());
 
         return ResponseEntity.status(exception.getErrorCode().getHttpStatus())
                 .body(APIResponse.businessError(exception.getErrorCode()));
@@ -43,6 +50,7 @@ public class GlobalExceptionHandler {
         ErrorCode errorCode = CommonErrorCode.NOT_FOUND;
 
         log.warn(errorCode.getMessage(), exception);
+        countError(errorCode);
         return ResponseEntity.status(errorCode.getHttpStatus())
                 .body(APIResponse.commonError(errorCode));
     }
@@ -57,6 +65,7 @@ public class GlobalExceptionHandler {
         log.warn(exception.getMessage(), exception);
 
         ErrorCode errorCode = CommonErrorCode.BAD_REQUEST;
+        countError(errorCode);
         return ResponseEntity.status(errorCode.getHttpStatus())
                 .body(APIResponse.commonError(errorCode));
     }
@@ -67,7 +76,18 @@ public class GlobalExceptionHandler {
         log.warn(exception.getMessage(), exception);
 
         ErrorCode errorCode = CommonErrorCode.INTERNAL_SERVER_ERROR;
+        countError(errorCode);
         return ResponseEntity.status(errorCode.getHttpStatus())
                 .body(APIResponse.commonError(errorCode));
     }
+
+    // ErrorCode별 발생 횟수
+    private void countError(ErrorCode errorCode) {
+        meterRegistry
+                .counter(
+                        "growin.errors",
+                        "code", errorCode.getCode(),
+                        "status", String.valueOf(errorCode.getHttpStatus().value()))
+                .increment();
+    }
 }
@@ -10,6 +10,12 @@ public enum EventErrorCode implements ErrorCode {
 	EVENT_NOT_FOUND(HttpStatus.NOT_FOUND, "EVENT_NOT_FOUND", "일정을 찾을 수 없습니다."),
 	INVALID_REPEAT_COUNT(HttpStatus.BAD_REQUEST, "INVALID_REPEAT_COUNT", "반복 횟수가 허용 범위를 벗어났습니다."),
 	INVALID_DATE_RANGE(HttpStatus.BAD_REQUEST, "INVALID_DATE_RANGE", "종료 날짜는 시작 날짜보다 앞설 수 없습니다."),
+	EVENT_PERIOD_TOO_LONG(HttpStatus.BAD_REQUEST, "EVENT_PERIOD_TOO_LONG", "일정 기간은 최대 1년까지 설정할 수 있습니다."),
+	QUERY_RANGE_TOO_LONG(HttpStatus.BAD_REQUEST, "QUERY_RANGE_TOO_LONG", "조회 기간은 최대 1년까지 설정할 수 있습니다."),
+	INVALID_CURSOR(HttpStatus.BAD_REQUEST, "INVALID_CURSOR", "잘못된 커서 값입니다."),
+	EVENT_VERSION_CONFLICT(HttpStatus.CONFLICT, "EVENT_VERSION_CONFLICT", "다른 요청에서 일정이 먼저 수정되었습니다. 다시 조회한 뒤 수정해 주세요."),
+	INVALID_CALENDAR_FILE(HttpStatus.BAD_REQUEST, "INVALID_CALENDAR_FILE", "가져올 .ics 파일이 비어 있습니다."),
+	DUPLICATE_EVENT_ID(HttpStatus.BAD_REQUEST, "DUPLICATE_EVENT_ID", "요청에 중복된 일정 ID가 있습니다."),
 	MISSING_TIME(HttpStatus.BAD_REQUEST, "MISSING_TIME", "시작 시간과 종료 시간은 모두 입력되어야 합니다."),
 	INVALID_TIME_RANGE(HttpStatus.BAD_REQUEST, "INVALID_TIME_RANGE", "종료 시간은 시작 시간보다 같거나 뒤여야 합니다.");
 
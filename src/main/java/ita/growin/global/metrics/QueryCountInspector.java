@@ -0,0 +1,23 @@
+package ita.growin.global.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+// 현재 스레드(요청)에서 실행된 SQL 수를 센다. QueryCountFilter가 요청 단위로 초기화/기록한다.
+public class QueryCountInspector implements StatementInspector {
+
+	private static final ThreadLocal<int[]> COUNT = ThreadLocal.withInitial(() -> new int[1]);
+
+	public static void reset() {
+		COUNT.get()[0] = 0;
+	}
+
+	public static int current() {
+		return COUNT.get()[0];
+	}
+
+	@Override
+	public String inspect(String sql) {
+		COUNT.get()[0]++;
+		return sql;
+	}
+}
@@ -0,0 +1,88 @@
+package ita.growin.global.ratelimit;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import ita.growin.global.exception.errorcode.CommonErrorCode;
+import ita.growin.global.response.APIResponse;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+// 클라이언트별 요청 수 제한 (SecurityFilterChain 안, 인증 이후에 실행)
+// 인증된 요청은 사용자, 그 외에는 IP(server.forward-headers-strategy로 nginx의 X-Forwarded-For 반영) 단위로 센다.
+// 읽기(GET/HEAD)와 쓰기는 예산을 따로 둔다. 초과하면 429 + Retry-After(초)로 거절하고 서비스까지 가지 않는다.
+public class RateLimitFilter extends OncePerRequestFilter {
+
+	private final RateLimiter reads;
+	private final RateLimiter writes;
+	private final ObjectMapper objectMapper;
+	private final Counter readRejections;
+	private final Counter writeRejections;
+
+	public RateLimitFilter(RateLimiter reads, RateLimiter writes, ObjectMapper objectMapper,
+		MeterRegistry meterRegistry) {
+		this.reads = reads;
+		this.writes = writes;
+		this.objectMapper = objectMapper;
+		this.readRejections = rejections(meterRegistry, "read");
+		this.writeRejections = rejections(meterRegistry, "write");
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+		throws ServletException, IOException {
+		boolean read = isRead(request.getMethod());
+		long wait = (read ? reads : writes).tryAcquire(client(request));
+		if (wait == 0) {
+			filterChain.doFilter(request, response);
+			return;
+		}
+
+		(read ? readRejections : writeRejections).increment();
+		CommonErrorCode errorCode = CommonErrorCode.TOO_MANY_REQUESTS;
+		response.setStatus(errorCode.getHttpStatus().value());
+		response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(Math.max(1, TimeUnit.NANOSECONDS.toSeconds(
+			wait + TimeUnit.SECONDS.toNanos(1) - 1))));
+		response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+		objectMapper.writeValue(response.getOutputStream(), APIResponse.commonError(errorCode));
+	}
+
+	// OPTIONS(CORS preflight)는 세지 않는다.
+	@Override
+	protected boolean shouldNotFilter(HttpServletRequest request) {
+		return "OPTIONS".equals(request.getMethod());
+	}
+
+	private static boolean isRead(String method) {
+		return "GET".equals(method) || "HEAD".equals(method);
+	}
+
+	private static String client(HttpServletRequest request) {
+		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+		if (authentication != null && authentication.isAuthenticated()
+			&& !(authentication instanceof AnonymousAuthenticationToken)) {
+			return "u:" + authentication.getName();
+		}
+		return request.getRemoteAddr();
+	}
+
+	private static Counter rejections(MeterRegistry meterRegistry, String budget) {
+		return Counter.builder("growin.rate_limit.rejections")
+			.description("Requests rejected by the per-client rate limit")
+			.tag("budget", budget)
+			.register(meterRegistry);
+	}
+}
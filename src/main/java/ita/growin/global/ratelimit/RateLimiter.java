@@ -0,0 +1,39 @@
+package ita.growin.global.ratelimit;
+
+import java.time.Duration;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+// 클라이언트(사용자/IP)별 토큰 버킷 모음 (크기 제한 + 만료)
+// 버킷은 마지막 사용 후 가득 찰 시간이 지나면 새 버킷과 같으므로, 그만큼 쓰이지 않은 버킷은 버려도 결과가 같다.
+// 이미 있는 버킷 조회(getIfPresent)는 잠금 없이 처리되고, 처음 보는 클라이언트만 버킷을 만든다.
+public class RateLimiter {
+
+	private final long capacity;
+	private final long intervalNanos;
+	private final Cache<String, TokenBucket> buckets;
+
+	// capacity: 연속으로 허용할 최대 요청 수, perSecond: 초당 충전되는 요청 수
+	public RateLimiter(long capacity, double perSecond, long maxClients) {
+		if (capacity < 1 || perSecond <= 0) {
+			throw new IllegalArgumentException("capacity and perSecond must be positive");
+		}
+		this.capacity = capacity;
+		this.intervalNanos = Math.max(1, (long) (Duration.ofSeconds(1).toNanos() / perSecond));
+		this.buckets = Caffeine.newBuilder()
+			.maximumSize(maxClients)
+			.expireAfterAccess(Duration.ofNanos(Math.multiplyExact(capacity, intervalNanos)))
+			.build();
+	}
+
+	// 허용되면 0, 거절되면 다음 요청이 허용될 때까지 남은 시간(나노초)
+	public long tryAcquire(String client) {
+		long now = System.nanoTime();
+		TokenBucket bucket = buckets.getIfPresent(client);
+		if (bucket == null) {
+			bucket = buckets.get(client, key -> new TokenBucket(capacity, intervalNanos, now));
+		}
+		return bucket.tryAcquire(now);
+	}
+}
@@ -0,0 +1,33 @@
+package ita.growin.global.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+// 잠금 없는 토큰 버킷. 토큰 수와 마지막 충전 시각 대신 "다음 토큰이 비는 이론상 시각(TAT)" 하나만 CAS로 갱신한다. (GCRA)
+// 용량 capacity, interval마다 토큰 1개 충전하는 토큰 버킷과 같은 결과를 내며, 허용 경로에서 객체를 만들지 않는다.
+class TokenBucket {
+
+	private final long interval;
+	private final long burst;
+	private final AtomicLong theoreticalArrival;
+
+	TokenBucket(long capacity, long intervalNanos, long nowNanos) {
+		this.interval = intervalNanos;
+		this.burst = capacity * intervalNanos;
+		this.theoreticalArrival = new AtomicLong(nowNanos);
+	}
+
+	// 토큰 1개를 꺼낸다. 허용되면 0, 거절되면 토큰이 생길 때까지 기다려야 하는 시간(나노초)을 반환한다.
+	long tryAcquire(long nowNanos) {
+		while (true) {
+			long current = theoreticalArrival.get();
+			long next = Math.max(current, nowNanos) + interval;
+			long wait = next - nowNanos - burst;
+			if (wait > 0) {
+				return wait;
+			}
+			if (theoreticalArrival.compareAndSet(current, next)) {
+				return 0;
+			}
+		}
+	}
+}
@@ -1,6 +1,7 @@
 package ita.growin.global.response;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import ita.growin.global.exception.errorcode.ErrorCode;
 import java.time.LocalDateTime;
 import org.springframework.http.HttpStatus;
@@ -9,8 +10,8 @@ import org.springframework.http.HttpStatus;
 public record APIResponse<T>(
         int status,
         String code, // 비즈니스 에러일 때만 값 존재
-        String message,
-        LocalDateTime timestamp,
+        @JsonSerialize(using = ResponseMessageSerializer.class) String message,
+        @JsonSerialize(using = ResponseClock.TimestampSerializer.class) LocalDateTime timestamp, // 초 단위
         T data // 성공일 때만 값 존재
         ) {
 
@@ -19,13 +20,13 @@ public record APIResponse<T>(
     // 성공응답 (data X)
     public static <T> APIResponse<T> success() {
         return new APIResponse<>(
-                HttpStatus.OK.value(), null, SUCCESS_MESSAGE, LocalDateTime.now(), null);
+                HttpStatus.OK.value(), null, SUCCESS_MESSAGE, ResponseClock.now(), null);
     }
 
     // 성공응답 (data 존재)
     public static <T> APIResponse<T> success(T data) {
         return new APIResponse<>(
-                HttpStatus.OK.value(), null, SUCCESS_MESSAGE, LocalDateTime.now(), data);
+                HttpStatus.OK.value(), null, SUCCESS_MESSAGE, ResponseClock.now(), data);
     }
 
     // 실패응답 (공통)
@@ -34,7 +35,7 @@ public record APIResponse<T>(
                 errorCode.getHttpStatus().value(),
                 null,
                 errorCode.getMessage(),
-                LocalDateTime.now(),
+                ResponseClock.now(),
                 null);
     }
 
@@ -44,7 +45,7 @@ public record APIResponse<T>(
                 errorCode.getHttpStatus().value(),
                 errorCode.getCode(),
                 errorCode.getMessage(),
-                LocalDateTime.now(),
+                ResponseClock.now(),
                 null);
     }
 }
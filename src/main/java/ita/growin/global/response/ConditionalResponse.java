@@ -0,0 +1,97 @@
+package ita.growin.global.response;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.context.request.WebRequest;
+
+import lombok.experimental.UtilityClass;
+
+// 버전 기반 조건부 응답. If-None-Match가 현재 버전과 같으면 body를 만들지 않고 304를 반환한다.
+// 응답 body의 timestamp는 요청마다 달라 바이트 단위로 같음을 보장할 수 없으므로 약한(W/) ETag를 쓴다.
+@UtilityClass
+public class ConditionalResponse {
+
+    // 캐시에 저장하되 매번 재검증 (사용자별 데이터이므로 공유 캐시 저장 금지)
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    // 응답 가능한 표현 -> ETag 접미사 (JacksonConfig의 CBOR/Smile 컨버터)
+    private static final Map<MediaType, String> REPRESENTATIONS = representations();
+
+    public static <T> ResponseEntity<T> of(WebRequest request, String version, Supplier<T> body) {
+        String tag = "\"" + version + representation(request.getHeader(HttpHeaders.ACCEPT)) + "\"";
+        String etag = "W/" + tag;
+        if (matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), tag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(REVALIDATE)
+                    .varyBy(HttpHeaders.ACCEPT)
+                    .build();
+        }
+        return ResponseEntity.ok().eTag(etag).cacheControl(REVALIDATE).varyBy(HttpHeaders.ACCEPT).body(body.get());
+    }
+
+    // 같은 버전이라도 CBOR/Smile 응답은 JSON과 다른 표현이므로 ETag를 구분한다.
+    // 메시지 컨버터 협상과 같은 규칙: q값·구체성 순으로 정렬한 Accept를 앞에서부터 보고, 처음 호환되는 표현을 고른다.
+    // 표현 순서는 컨버터 등록 순서(JSON 먼저)와 같아 */* 나 application/* 는 JSON이 된다.
+    private static String representation(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return "";
+        }
+        List<MediaType> acceptable;
+        try {
+            acceptable = new ArrayList<>(MediaType.parseMediaTypes(accept));
+        } catch (InvalidMediaTypeException exception) {
+            return "";
+        }
+        MimeTypeUtils.sortBySpecificity(acceptable);
+        for (MediaType type : acceptable) {
+            if (type.getQualityValue() == 0) {
+                continue;
+            }
+            for (Map.Entry<MediaType, String> representation : REPRESENTATIONS.entrySet()) {
+                if (type.isCompatibleWith(representation.getKey())) {
+                    return representation.getValue();
+                }
+            }
+        }
+        return "";
+    }
+
+    private static Map<MediaType, String> representations() {
+        Map<MediaType, String> representations = new LinkedHashMap<>();
+        representations.put(MediaType.APPLICATION_JSON, "");
+        representations.put(new MediaType("application", "*+json"), "");
+        representations.put(MediaType.parseMediaType("application/cbor"), "-cbor");
+        representations.put(MediaType.parseMediaType("application/x-jackson-smile"), "-smile");
+        return Collections.unmodifiableMap(representations);
+    }
+
+    // If-None-Match는 약한 비교: W/ 유무와 관계없이 태그 값이 같으면 일치
+    private static boolean matches(String ifNoneMatch, String tag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.startsWith("W/")) {
+                value = value.substring(2);
+            }
+            if (value.equals("*") || value.equals(tag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
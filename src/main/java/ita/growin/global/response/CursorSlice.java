@@ -0,0 +1,17 @@
+package ita.growin.global.response;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+// 커서 기반 조회 응답 (전체 개수를 세지 않는다)
+@Schema(description = "커서 기반 조회 응답")
+public record CursorSlice<T>(
+        @Schema(description = "조회 결과") List<T> content,
+        @Schema(description = "다음 조회에 사용할 커서 (마지막이면 null)") String nextCursor,
+        @Schema(description = "다음 데이터 존재 여부") boolean hasNext) {
+
+    public static <T> CursorSlice<T> of(List<T> content, String nextCursor) {
+        return new CursorSlice<>(content, nextCursor, nextCursor != null);
+    }
+}
@@ -0,0 +1,28 @@
+package ita.growin.global.response;
+
+import java.util.List;
+
+import org.springframework.data.domain.Page;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+// 페이지 조회 응답: Page를 그대로 직렬화하면 pageable/sort 객체가 매번 함께 나가므로 필요한 값만 담는다.
+@Schema(description = "페이지 조회 응답")
+public record PageResponse<T>(
+        @Schema(description = "조회 결과") List<T> content,
+        @Schema(description = "페이지 번호 (0부터 시작)") int page,
+        @Schema(description = "페이지 크기") int size,
+        @Schema(description = "전체 개수") long totalElements,
+        @Schema(description = "전체 페이지 수") int totalPages,
+        @Schema(description = "다음 페이지 존재 여부") boolean hasNext) {
+
+    public static <T> PageResponse<T> of(Page<T> page) {
+        return new PageResponse<>(
+                page.getContent(),
+                page.getNumber(),
+                page.getSize(),
+                page.getTotalElements(),
+                page.getTotalPages(),
+                page.hasNext());
+    }
+}
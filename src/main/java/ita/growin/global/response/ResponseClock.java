@@ -0,0 +1,60 @@
+package ita.growin.global.response;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import java.io.IOException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import lombok.experimental.UtilityClass;
+
+// 응답 timestamp는 초 단위면 충분하므로 같은 초 안의 응답은 같은 시각과 직렬화 결과를 공유한다.
+@UtilityClass
+class ResponseClock {
+
+    private static volatile Tick tick = Tick.of(currentSecond());
+
+    static LocalDateTime now() {
+        long second = currentSecond();
+        Tick current = tick;
+        if (current.epochSecond() != second) {
+            current = Tick.of(second);
+            tick = current;
+        }
+        return current.time();
+    }
+
+    private static long currentSecond() {
+        return System.currentTimeMillis() / 1000;
+    }
+
+    // 현재 초의 시각이면 미리 인코딩해 둔 문자열을 그대로 쓴다.
+    static class TimestampSerializer extends StdSerializer<LocalDateTime> {
+
+        TimestampSerializer() {
+            super(LocalDateTime.class);
+        }
+
+        @Override
+        public void serialize(LocalDateTime value, JsonGenerator generator, SerializerProvider provider)
+                throws IOException {
+            Tick current = tick;
+            if (value.equals(current.time())) {
+                generator.writeString(current.text());
+            } else {
+                generator.writeString(value.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
+            }
+        }
+    }
+
+    private record Tick(long epochSecond, LocalDateTime time, SerializedString text) {
+
+        static Tick of(long epochSecond) {
+            LocalDateTime time = LocalDateTime.ofInstant(Instant.ofEpochSecond(epochSecond), ZoneId.systemDefault());
+            return new Tick(epochSecond, time, new SerializedString(time.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME)));
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package ita.growin.global.response;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 응답 메시지는 성공 메시지와 ErrorCode 메시지뿐이므로, 메시지별 이스케이프/UTF-8 인코딩 결과를 한 번만 만들어 재사용한다.
+class ResponseMessageSerializer extends StdSerializer<String> {
+
+    // 고정 메시지 외의 값이 들어오더라도 캐시가 커지지 않도록 제한
+    private static final int MAX_CACHED_MESSAGES = 256;
+
+    private static final Map<String, SerializedString> MESSAGES = new ConcurrentHashMap<>();
+
+    ResponseMessageSerializer() {
+        super(String.class);
+    }
+
+    @Override
+    public void serialize(String value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        SerializedString message = MESSAGES.get(value);
+        if (message == null && MESSAGES.size() < MAX_CACHED_MESSAGES) {
+            message = MESSAGES.computeIfAbsent(value, SerializedString::new);
+        }
+        if (message != null) {
+            generator.writeString(message);
+        } else {
+            generator.writeString(value);
+        }
+    }
+}
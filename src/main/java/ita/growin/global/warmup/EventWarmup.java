@@ -0,0 +1,223 @@
+package ita.growin.global.warmup;
+
+import java.lang.management.ManagementFactory;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import ita.growin.domain.event.dto.response.EventResDto;
+import ita.growin.domain.event.entity.Event;
+import ita.growin.domain.event.service.EventService;
+import ita.growin.global.exception.EventException;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+
+// 기동 직후 워밍업: 커넥션 풀을 미리 채우고, 실제 EventService 읽기 경로(월/일/상세)를 반복 호출해
+// JIT 컴파일, Hibernate 쿼리 계획 캐시, 커넥션/드라이버 경로를 데운다.
+// 캐시 적중은 DB 경로가 데워졌는지 알려주지 않으므로, 매 호출은 이전에 조회하지 않은 월/날짜를 쓰고
+// 상세 조회 전에는 해당 일정을 2차 캐시에서 지운다. (트래픽을 받기 전이라 캐시를 비워도 영향이 없다)
+// min-rounds 이상 돌고 마지막 라운드의 p95 지연이 목표 이하가 되면 WarmupHealthIndicator를 UP으로 바꾼다.
+// (max-duration 안에 못 맞추면 DOWN)
+// max-duration은 JVM 시작부터 센다. deploy.sh의 대기도 컨테이너 시작부터 세므로, 기동이 느려도 대기가 끝나기 전에 결과가 정해진다.
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "growin.warmup", name = "enabled", matchIfMissing = true)
+public class EventWarmup {
+
+    private static final Pageable PAGE = PageRequest.of(0, 20);
+    private static final int SLICE_SIZE = 20;
+    private static final int MAX_DETAIL_IDS = 100;
+
+    private final EventService eventService;
+    private final EntityManagerFactory entityManagerFactory;
+    private final ObjectProvider<HikariDataSource> dataSources;
+    private final WarmupHealthIndicator healthIndicator;
+    private final int iterations;
+    private final int minRounds;
+    private final Duration latencyTarget;
+    private final Duration maxDuration;
+
+    // 지금까지 고른 월/날짜 수 (nextOffset)
+    private long sequence;
+
+    // 상세 조회 대상: 목록 조회에서 본 일정 ID (먼 월은 대부분 비어 있으므로 모아 두고 돌려 쓴다)
+    private final List<Long> detailIds = new ArrayList<>();
+
+    public EventWarmup(
+            EventService eventService,
+            EntityManagerFactory entityManagerFactory,
+            ObjectProvider<HikariDataSource> dataSources,
+            WarmupHealthIndicator healthIndicator,
+            @Value("${growin.warmup.iterations:50}") int iterations,
+            @Value("${growin.warmup.min-rounds:5}") int minRounds,
+            @Value("${growin.warmup.latency-target:50ms}") Duration latencyTarget,
+            @Value("${growin.warmup.max-duration:40s}") Duration maxDuration) {
+        this.eventService = eventService;
+        this.entityManagerFactory = entityManagerFactory;
+        this.dataSources = dataSources;
+        this.healthIndicator = healthIndicator;
+        this.iterations = iterations;
+        this.minRounds = Math.max(minRounds, 1);
+        this.latencyTarget = latencyTarget;
+        this.maxDuration = maxDuration;
+    }
+
+    // 요청 스레드를 막지 않도록 별도 스레드에서 실행 (readiness는 그동안 OUT_OF_SERVICE)
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        Thread thread = new Thread(this::run, "event-warmup");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    void run() {
+        long startedAt = System.nanoTime();
+        long uptime = Duration.ofMillis(ManagementFactory.getRuntimeMXBean().getUptime()).toNanos();
+        long deadline = startedAt - uptime + maxDuration.toNanos();
+        try {
+            fillConnectionPools();
+
+            int round = 0;
+            long p95 = Long.MAX_VALUE;
+            while (System.nanoTime() < deadline) {
+                round++;
+                p95 = runRound();
+                Map<String, Object> details = details(round, p95, startedAt);
+                if (round >= minRounds && p95 <= latencyTarget.toNanos()) {
+                    healthIndicator.completed(details);
+                    log.info("warmup completed: {}", details);
+                    return;
+                }
+                healthIndicator.running(details);
+            }
+            Map<String, Object> details = details(round, p95, startedAt);
+            healthIndicator.failed(details);
+            log.warn("warmup did not reach the latency target: {}", details);
+        } catch (RuntimeException exception) {
+            Map<String, Object> details = new LinkedHashMap<>();
+            details.put("error", exception.getClass().getSimpleName());
+            healthIndicator.failed(details);
+            log.warn("warmup failed", exception);
+        }
+    }
+
+    // 풀마다 minimumIdle만큼 커넥션을 동시에 빌렸다가 반납해, 첫 요청들이 커넥션 생성을 기다리지 않게 한다.
+    private void fillConnectionPools() {
+        dataSources.orderedStream().forEach(dataSource -> {
+            // minimumIdle을 설정하지 않으면(-1) 풀 크기만큼 유지된다.
+            int minimumIdle = dataSource.getMinimumIdle();
+            int size = minimumIdle < 0
+                    ? dataSource.getMaximumPoolSize()
+                    : Math.min(minimumIdle, dataSource.getMaximumPoolSize());
+            List<Connection> connections = new ArrayList<>(size);
+            try {
+                for (int i = 0; i < size; i++) {
+                    connections.add(dataSource.getConnection());
+                }
+            } catch (SQLException exception) {
+                throw new IllegalStateException("could not open warmup connections for " + dataSource.getPoolName(),
+                        exception);
+            } finally {
+                connections.forEach(EventWarmup::closeQuietly);
+            }
+        });
+    }
+
+    // 읽기 경로를 iterations번 호출하고 호출별 지연의 p95(나노초)를 반환한다.
+    // 조회마다 이번 달/오늘에서 앞뒤로 번갈아 한 칸씩 넓혀 간 새 월/날짜를 쓰므로 월별 조회 캐시와 쿼리 캐시에 적중하지 않는다.
+    private long runRound() {
+        LocalDate today = LocalDate.now();
+        YearMonth month = YearMonth.from(today);
+        long[] latencies = new long[iterations * 5];
+        int count = 0;
+
+        for (int i = 0; i < iterations; i++) {
+            YearMonth targetMonth = month.plusMonths(nextOffset());
+            long begin = System.nanoTime();
+            eventService.getEventsByMonth(targetMonth.getYear(), targetMonth.getMonthValue(), PAGE);
+            latencies[count++] = System.nanoTime() - begin;
+
+            LocalDate targetDate = today.plusDays(nextOffset());
+            begin = System.nanoTime();
+            eventService.getEventsByDate(targetDate, PAGE);
+            latencies[count++] = System.nanoTime() - begin;
+
+            targetMonth = month.plusMonths(nextOffset());
+            begin = System.nanoTime();
+            eventService.getEventsWithTasksByMonth(targetMonth.getYear(), targetMonth.getMonthValue(), PAGE);
+            latencies[count++] = System.nanoTime() - begin;
+
+            targetMonth = month.plusMonths(nextOffset());
+            begin = System.nanoTime();
+            List<EventResDto> slice = eventService
+                    .getEventSliceByMonth(targetMonth.getYear(), targetMonth.getMonthValue(), null, SLICE_SIZE)
+                    .content();
+            latencies[count++] = System.nanoTime() - begin;
+            slice.stream()
+                    .map(EventResDto::eventId)
+                    .filter(eventId -> detailIds.size() < MAX_DETAIL_IDS && !detailIds.contains(eventId))
+                    .forEach(detailIds::add);
+
+            long eventId = detailIds.isEmpty() ? -1L : detailIds.get(i % detailIds.size());
+            entityManagerFactory.getCache().evict(Event.class, eventId);
+            begin = System.nanoTime();
+            getDetail(eventId);
+            latencies[count++] = System.nanoTime() - begin;
+        }
+
+        Arrays.sort(latencies, 0, count);
+        return latencies[(int) Math.ceil(count * 0.95) - 1];
+    }
+
+    // 0, -1, 1, -2, 2, ...
+    private long nextOffset() {
+        long next = sequence++;
+        return next % 2 == 0 ? next / 2 : -(next + 1) / 2;
+    }
+
+    // 일정이 없는 환경에서도 상세 조회 경로(조회 + 없음 처리)를 지나가도록 한다.
+    private void getDetail(long eventId) {
+        try {
+            eventService.getEventDetail(eventId);
+        } catch (EventException ignored) {
+            // 일정 없음
+        }
+    }
+
+    private Map<String, Object> details(int round, long p95, long startedAt) {
+        Map<String, Object> details = new LinkedHashMap<>();
+        details.put("rounds", round);
+        if (p95 != Long.MAX_VALUE) {
+            details.put("p95Millis", p95 / 1_000_000.0);
+        }
+        details.put("targetMillis", latencyTarget.toMillis());
+        details.put("elapsedMillis", (System.nanoTime() - startedAt) / 1_000_000);
+        return details;
+    }
+
+    private static void closeQuietly(Connection connection) {
+        try {
+            connection.close();
+        } catch (SQLException ignored) {
+            // 반납 실패는 풀이 정리한다.
+        }
+    }
+}
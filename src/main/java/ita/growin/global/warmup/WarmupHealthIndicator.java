@@ -0,0 +1,39 @@
+package ita.growin.global.warmup;
+
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+// readiness 그룹의 warmup 항목. 워밍업이 지연 목표를 만족하기 전까지 OUT_OF_SERVICE로 두어
+// deploy.sh의 readiness 검사가 실제로 요청을 받을 수 있는 시점에 통과하도록 한다.
+@Component
+public class WarmupHealthIndicator implements HealthIndicator {
+
+    private volatile Health health;
+
+    public WarmupHealthIndicator(@Value("${growin.warmup.enabled:true}") boolean enabled) {
+        this.health = enabled
+                ? Health.outOfService().withDetail("phase", "pending").build()
+                : Health.up().withDetail("phase", "disabled").build();
+    }
+
+    @Override
+    public Health health() {
+        return health;
+    }
+
+    void running(Map<String, Object> details) {
+        health = Health.outOfService().withDetail("phase", "running").withDetails(details).build();
+    }
+
+    void completed(Map<String, Object> details) {
+        health = Health.up().withDetail("phase", "completed").withDetails(details).build();
+    }
+
+    void failed(Map<String, Object> details) {
+        health = Health.down().withDetail("phase", "failed").withDetails(details).build();
+    }
+}
@@ -0,0 +1,27 @@
+-- 일정/할 일 ID 생성을 IDENTITY에서 pooled 시퀀스로 바꾸는 마이그레이션 (MySQL 8.0)
+-- MySQL에는 시퀀스가 없어 Hibernate는 next_val 한 행짜리 테이블(event_seq, task_seq)로 대신한다.
+-- 새 버전을 배포하기 전에 한 번 실행한다. (기존 버전은 계속 AUTO_INCREMENT로 INSERT하므로 실행 후 바로 전환한다)
+--   mysql -u root -p growin < V1__event_task_seq.sql
+--
+-- pooled 옵티마이저는 읽은 next_val에서 allocationSize(50)만큼 앞쪽 범위를 쓰므로
+-- MAX(id) + 50 + 1부터 시작해야 첫 범위가 기존 ID와 겹치지 않는다.
+
+CREATE TABLE IF NOT EXISTS event_seq (
+    next_val BIGINT
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS task_seq (
+    next_val BIGINT
+) ENGINE = InnoDB;
+
+DELETE FROM event_seq;
+INSERT INTO event_seq (next_val)
+SELECT COALESCE(MAX(event_id), 0) + 50 + 1 FROM event;
+
+DELETE FROM task_seq;
+INSERT INTO task_seq (next_val)
+SELECT COALESCE(MAX(task_id), 0) + 50 + 1 FROM task;
+
+-- 확인: 두 값 모두 각 테이블의 MAX(id) + 51 이상이어야 한다.
+SELECT (SELECT next_val FROM event_seq) AS event_next, (SELECT MAX(event_id) FROM event) AS event_max,
+       (SELECT next_val FROM task_seq) AS task_next, (SELECT MAX(task_id) FROM task) AS task_max;
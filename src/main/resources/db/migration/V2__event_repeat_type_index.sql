@@ -0,0 +1,30 @@
+-- 기간 조회(EventRepository.findAllInRange)용 인덱스 + 최대 기간 정리 (MySQL 8.0)
+-- 새 버전을 배포하기 전에 한 번 실행한다.
+--   mysql -u root -p growin < V2__event_repeat_type_index.sql
+--
+-- 반복하지 않는 일정은 시작일이 [조회 시작 - 365일, 조회 종료] 안에 있어야 조회된다. (EventValidator.MAX_EVENT_SPAN_DAYS)
+-- 그보다 긴 기존 일정은 조회에서 빠지므로, 원래 값을 event_span_backup에 남기고 종료일을 시작일 + 365일로 줄인다.
+
+CREATE TABLE IF NOT EXISTS event_span_backup (
+    event_id     BIGINT       NOT NULL PRIMARY KEY,
+    end_date     DATE         NOT NULL,
+    end_day      VARCHAR(255) NOT NULL,
+    backed_up_at DATETIME     NOT NULL
+) ENGINE = InnoDB;
+
+INSERT IGNORE INTO event_span_backup (event_id, end_date, end_day, backed_up_at)
+SELECT event_id, end_date, end_day, NOW()
+FROM event
+WHERE DATEDIFF(end_date, start_date) > 365;
+
+-- end_day는 DayOfWeek 이름(MONDAY ...)으로 저장된다.
+UPDATE event
+SET end_date = DATE_ADD(start_date, INTERVAL 365 DAY),
+    end_day  = UPPER(DAYNAME(DATE_ADD(start_date, INTERVAL 365 DAY)))
+WHERE DATEDIFF(end_date, start_date) > 365;
+
+CREATE INDEX idx_event_repeat_type_start_date ON event (repeat_type, start_date, end_date, repeat_end_date);
+
+-- 확인: too_long_events는 0, 인덱스가 한 행 이상 보여야 한다.
+SELECT COUNT(*) AS too_long_events FROM event WHERE DATEDIFF(end_date, start_date) > 365;
+SHOW INDEX FROM event WHERE Key_name = 'idx_event_repeat_type_start_date';
@@ -0,0 +1,11 @@
+-- 일정 버전 컬럼 (Event.version: @Version 낙관적 락, ETag) (MySQL 8.0)
+-- 새 버전을 배포하기 전에 한 번 실행한다. 이 컬럼이 없으면 일정 조회가 모두 실패한다.
+--   mysql -u root -p growin < V3__event_version.sql
+--
+-- 기존 행은 0에서 시작한다. 이전 버전은 이 컬럼을 모르고 INSERT하므로 기본값이 필요하다.
+
+ALTER TABLE event
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+-- 확인: null_versions는 0이어야 한다.
+SELECT COUNT(*) AS null_versions FROM event WHERE version IS NULL;
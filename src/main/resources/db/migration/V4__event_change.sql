@@ -0,0 +1,25 @@
+-- 일정 변경 로그 (델타 동기화 GET /events/changes) (MySQL 8.0)
+-- 새 버전을 배포하기 전에 한 번 실행한다. 일정 생성/수정/삭제 트랜잭션이 변경 로그를 함께 기록하므로
+-- 이 테이블이 없으면 모든 일정 쓰기가 실패한다.
+--   mysql -u root -p growin < V4__event_change.sql
+
+-- 변경 로그 한 행 = 일정 하나의 변경. seq(변경 토큰)는 커밋 이후 EventChangePublisher가 발급한다.
+CREATE TABLE event_change (
+    event_change_id BIGINT       NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    event_id        BIGINT       NOT NULL,
+    type            VARCHAR(16)  NOT NULL,
+    changed_at      DATETIME(6)  NOT NULL,
+    batch           VARCHAR(36)  NOT NULL,
+    seq             BIGINT
+) ENGINE = InnoDB;
+
+CREATE INDEX idx_event_change_seq ON event_change (seq);
+CREATE INDEX idx_event_change_batch ON event_change (batch);
+
+-- 마지막으로 발급한 토큰 (행 하나, event_change_counter_id = 1). 발급 트랜잭션이 이 행을 잠근다.
+CREATE TABLE event_change_counter (
+    event_change_counter_id BIGINT NOT NULL PRIMARY KEY,
+    last_seq                BIGINT NOT NULL
+) ENGINE = InnoDB;
+
+INSERT INTO event_change_counter (event_change_counter_id, last_seq) VALUES (1, 0);
@@ -0,0 +1,70 @@
+package ita.growin.domain.event.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import ita.growin.domain.event.dto.response.EventResDto;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+class EventMonthCacheTest {
+
+    private static final YearMonth NOVEMBER = YearMonth.of(2025, 11);
+    private static final Pageable FIRST_PAGE = PageRequest.of(0, 20);
+
+    private final EventChangeTracker tracker = new EventChangeTracker();
+    private final EventMonthCache cache = new EventMonthCache(new SimpleMeterRegistry(), tracker);
+
+    @Test
+    @DisplayName("조회 도중 무효화가 끝나면, 그 조회 결과는 저장되더라도 다음 읽기에서 버려집니다.")
+    void load_racing_eviction_is_not_served() {
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get(NOVEMBER, FIRST_PAGE, () -> {
+            loads.incrementAndGet();
+            cache.evict(new EventMonthRange(NOVEMBER, NOVEMBER));
+            return Page.empty(FIRST_PAGE);
+        });
+        cache.get(NOVEMBER, FIRST_PAGE, () -> {
+            loads.incrementAndGet();
+            return Page.empty(FIRST_PAGE);
+        });
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("변경 표시가 올라간 시점에는 해당 달의 이전 항목이 남아 있지 않습니다.")
+    void entries_are_removed_before_stamp_is_bumped() {
+        Page<EventResDto> stale = new PageImpl<>(List.of(), FIRST_PAGE, 0);
+        cache.get(NOVEMBER, FIRST_PAGE, () -> stale);
+        long before = tracker.monthStamp(NOVEMBER);
+
+        cache.evict(new EventMonthRange(NOVEMBER, NOVEMBER));
+
+        assertThat(tracker.monthStamp(NOVEMBER)).isGreaterThan(before);
+        assertThat(cache.invalidationCount()).isEqualTo(1);
+        Page<EventResDto> reloaded = cache.get(NOVEMBER, FIRST_PAGE, () -> Page.empty(FIRST_PAGE));
+        assertThat(reloaded).isNotSameAs(stale);
+    }
+
+    @Test
+    @DisplayName("무효화는 범위에 걸친 달의 항목만 지웁니다.")
+    void eviction_only_touches_indexed_months() {
+        YearMonth december = NOVEMBER.plusMonths(1);
+        Page<EventResDto> cached = Page.empty(FIRST_PAGE);
+        cache.get(december, FIRST_PAGE, () -> cached);
+
+        cache.evict(new EventMonthRange(NOVEMBER, NOVEMBER));
+
+        assertThat(cache.get(december, FIRST_PAGE, () -> Page.empty(FIRST_PAGE))).isSameAs(cached);
+        assertThat(cache.invalidationCount()).isZero();
+    }
+}
@@ -0,0 +1,116 @@
+package ita.growin.domain.event.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import ita.growin.domain.event.dto.request.EventReqDto;
+import ita.growin.domain.event.enums.RepeatType;
+import ita.growin.domain.event.service.EventService;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.ResultActions;
+
+// 스트리밍 응답은 요청 스레드가 아닌 곳에서 읽으므로 테스트 트랜잭션 없이 커밋된 데이터로 확인한다.
+@ActiveProfiles("test")
+@SpringBootTest
+@AutoConfigureMockMvc(addFilters = false)
+class EventStreamingTest {
+
+    private static final LocalDate DATE = LocalDate.of(2041, 3, 5);
+
+    @Autowired EventService eventService;
+
+    @Autowired MockMvc mockMvc;
+
+    @Autowired ObjectMapper objectMapper;
+
+    private final List<Long> createdIds = new ArrayList<>();
+
+    @AfterEach
+    void cleanUp() {
+        eventService.deleteEvents(createdIds);
+    }
+
+    @Test
+    @DisplayName("기간 일정을 스트리밍 조회하면 발생 일정을 한 줄에 하나씩 시작일 순서로 응답합니다.")
+    void range_is_streamed_as_ndjson() throws Exception {
+        long later = create("회고", DATE.plusDays(7));
+        long earlier = create("회의", DATE);
+
+        String body = stream(get("/events/range")
+                .param("from", DATE.withDayOfMonth(1).toString())
+                .param("to", DATE.withDayOfMonth(31).toString()))
+                .andExpect(content().contentTypeCompatibleWith(MediaType.parseMediaType("application/x-ndjson")))
+                .andReturn().getResponse().getContentAsString();
+
+        List<JsonNode> lines = new ArrayList<>();
+        for (String line : body.split("\n")) {
+            lines.add(objectMapper.readTree(line));
+        }
+        assertThat(lines).extracting(line -> line.get("eventId").asLong()).containsExactly(earlier, later);
+        assertThat(lines.get(0).get("startDate").asText()).isEqualTo(DATE.toString());
+    }
+
+    @Test
+    @DisplayName("일정 내보내기는 전체 일정을 하나의 iCalendar 파일로 스트리밍합니다.")
+    void calendar_export_is_streamed() throws Exception {
+        long eventId = create("회의", DATE);
+
+        String body = stream(get("/events/export.ics"))
+                .andExpect(content().contentTypeCompatibleWith(MediaType.parseMediaType("text/calendar")))
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, containsString("growin.ics")))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+        assertThat(body).startsWith("BEGIN:VCALENDAR")
+                .contains("UID:event-" + eventId + "@growin", "SUMMARY:회의")
+                .endsWith("END:VCALENDAR\r\n");
+    }
+
+    private ResultActions stream(RequestBuilder requestBuilder) throws Exception {
+        MvcResult result = mockMvc.perform(requestBuilder)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk());
+    }
+
+    private long create(String title, LocalDate date) {
+        EventReqDto request = EventReqDto.builder()
+                .title(title)
+                .allDay(false)
+                .startDate(date)
+                .endDate(date)
+                .startDay(date.getDayOfWeek())
+                .endDay(date.getDayOfWeek())
+                .startTime(LocalTime.of(10, 0))
+                .endTime(LocalTime.of(11, 0))
+                .repeatType(RepeatType.NONE)
+                .build();
+        long eventId = eventService.createEvent(request).eventId();
+        createdIds.add(eventId);
+        return eventId;
+    }
+}
@@ -0,0 +1,116 @@
+package ita.growin.domain.event.ical;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import ita.growin.domain.event.dto.request.EventReqDto;
+import ita.growin.domain.event.enums.RepeatType;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ICalendarEventMapperTest {
+
+    private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+    private static final LocalDate DATE = LocalDate.of(2025, 11, 5);
+
+    @Test
+    @DisplayName("UTC(Z) 시각은 애플리케이션 시간대의 시각으로 바꿉니다.")
+    void utc_time_is_converted() throws IOException {
+        EventReqDto request = map("DTSTART:20251105T010000Z", "DTEND:20251105T020000Z");
+
+        assertThat(request.startDate()).isEqualTo(DATE);
+        assertThat(request.startTime()).isEqualTo(LocalTime.of(10, 0));
+        assertThat(request.endTime()).isEqualTo(LocalTime.of(11, 0));
+    }
+
+    @Test
+    @DisplayName("TZID 시각은 해당 시간대 기준으로 해석해 날짜가 바뀌면 요일도 함께 바꿉니다.")
+    void tzid_time_is_converted() throws IOException {
+        EventReqDto request = map(
+                "DTSTART;TZID=America/New_York:20251104T200000",
+                "DTEND;TZID=America/New_York:20251104T210000");
+
+        assertThat(request.startDate()).isEqualTo(DATE);
+        assertThat(request.startDay()).isEqualTo(DayOfWeek.WEDNESDAY);
+        assertThat(request.startTime()).isEqualTo(LocalTime.of(10, 0));
+        assertThat(request.endTime()).isEqualTo(LocalTime.of(11, 0));
+    }
+
+    @Test
+    @DisplayName("시간대가 없는 시각은 적힌 그대로 사용합니다.")
+    void floating_time_is_kept() throws IOException {
+        EventReqDto request = map("DTSTART:20251105T100000", "DTEND:20251105T110000");
+
+        assertThat(request.startTime()).isEqualTo(LocalTime.of(10, 0));
+        assertThat(request.endTime()).isEqualTo(LocalTime.of(11, 0));
+    }
+
+    @Test
+    @DisplayName("알 수 없는 TZID는 해당 속성의 줄 번호와 함께 실패합니다.")
+    void unknown_tzid_is_reported() {
+        assertThatThrownBy(() -> map("DTSTART;TZID=Nowhere/City:20251105T100000"))
+                .isInstanceOfSatisfying(ICalendarFormatException.class,
+                        exception -> assertThat(exception.getLine()).isEqualTo(3));
+    }
+
+    @Test
+    @DisplayName("종일 일정의 DTEND(다음 날)는 하루 앞당겨 종료일로 씁니다.")
+    void all_day_end_is_exclusive() throws IOException {
+        EventReqDto request = map("DTSTART;VALUE=DATE:20251105", "DTEND;VALUE=DATE:20251108");
+
+        assertThat(request.allDay()).isTrue();
+        assertThat(request.endDate()).isEqualTo(DATE.plusDays(2));
+        assertThat(request.startTime()).isNull();
+    }
+
+    @Test
+    @DisplayName("RRULE의 INTERVAL은 반복 간격, UTC UNTIL은 애플리케이션 시간대의 날짜로 반복 종료일이 됩니다.")
+    void rrule_until_is_mapped() throws IOException {
+        EventReqDto request = map("DTSTART:20251105T100000", "DTEND:20251105T110000",
+                "RRULE:FREQ=WEEKLY;INTERVAL=2;UNTIL=20251230T200000Z");
+
+        assertThat(request.repeatType()).isEqualTo(RepeatType.WEEK);
+        assertThat(request.repeatCount()).isEqualTo(2);
+        assertThat(request.repeatEndDate()).isEqualTo(LocalDate.of(2025, 12, 31));
+    }
+
+    @Test
+    @DisplayName("RRULE의 COUNT는 마지막 발생 일정이 끝나는 날짜로 바꿉니다.")
+    void rrule_count_is_mapped() throws IOException {
+        EventReqDto request = map("DTSTART:20251105T220000", "DTEND:20251106T010000",
+                "RRULE:FREQ=DAILY;COUNT=3");
+
+        assertThat(request.repeatType()).isEqualTo(RepeatType.DAY);
+        assertThat(request.repeatCount()).isEqualTo(1);
+        assertThat(request.repeatEndDate()).isEqualTo(DATE.plusDays(3));
+    }
+
+    @Test
+    @DisplayName("일정 모델로 표현할 수 없는 반복 규칙은 RRULE 줄 번호와 함께 실패합니다.")
+    void unsupported_rule_is_reported() {
+        assertThatThrownBy(() -> map("DTSTART:20251105T100000", "RRULE:FREQ=WEEKLY;BYDAY=MO,WE"))
+                .isInstanceOfSatisfying(ICalendarFormatException.class, exception -> {
+                    assertThat(exception.getLine()).isEqualTo(4);
+                    assertThat(exception.getMessage()).contains("BYDAY=MO,WE");
+                });
+    }
+
+    // 1: BEGIN:VEVENT, 2: SUMMARY, 3부터 주어진 속성
+    private static EventReqDto map(String... properties) throws IOException {
+        StringBuilder ics = new StringBuilder("BEGIN:VEVENT\r\nSUMMARY:회의\r\n");
+        for (String property : properties) {
+            ics.append(property).append("\r\n");
+        }
+        ics.append("END:VEVENT\r\n");
+        ICalendarReader reader = new ICalendarReader(
+                new ByteArrayInputStream(ics.toString().getBytes(StandardCharsets.UTF_8)));
+        return ICalendarEventMapper.toRequest(reader.next(), SEOUL);
+    }
+}
@@ -0,0 +1,129 @@
+package ita.growin.domain.event.ical;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ICalendarReaderTest {
+
+    @Test
+    @DisplayName("접힌 줄은 이어 붙이고, 속성의 줄 번호는 그 줄이 시작된 줄입니다.")
+    void folded_lines_are_unfolded() throws IOException {
+        ICalendarReader reader = reader(
+                "BEGIN:VCALENDAR",
+                "BEGIN:VEVENT",
+                "SUMMARY:팀",
+                " 회의",
+                "\t준비",
+                "DTSTART:20251105T100000",
+                "END:VEVENT",
+                "END:VCALENDAR");
+
+        ICalendarReader.VEvent event = reader.next();
+
+        assertThat(event.line()).isEqualTo(2);
+        assertThat(event.property("SUMMARY").value()).isEqualTo("팀회의준비");
+        assertThat(event.property("SUMMARY").line()).isEqualTo(3);
+        assertThat(event.property("DTSTART").line()).isEqualTo(6);
+        assertThat(reader.next()).isNull();
+    }
+
+    @Test
+    @DisplayName("VEVENT 안의 VALARM 같은 하위 컴포넌트 속성은 건너뜁니다.")
+    void nested_components_are_skipped() throws IOException {
+        ICalendarReader reader = reader(
+                "BEGIN:VEVENT",
+                "SUMMARY:회의",
+                "BEGIN:VALARM",
+                "TRIGGER:-PT15M",
+                "DESCRIPTION:알림",
+                "END:VALARM",
+                "END:VEVENT",
+                "BEGIN:VEVENT",
+                "SUMMARY:두 번째",
+                "END:VEVENT");
+
+        List<ICalendarReader.VEvent> events = new ArrayList<>();
+        for (ICalendarReader.VEvent event = reader.next(); event != null; event = reader.next()) {
+            events.add(event);
+        }
+
+        assertThat(events).hasSize(2);
+        assertThat(events.get(0).properties()).containsOnlyKeys("SUMMARY");
+        assertThat(events.get(1).line()).isEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("매개변수를 읽고, 따옴표 안의 콜론은 값의 시작으로 보지 않습니다.")
+    void parameters_are_parsed() throws IOException {
+        ICalendarReader reader = reader(
+                "BEGIN:VEVENT",
+                "DTSTART;tzid=\"Asia/Seoul:KST\";VALUE=DATE-TIME:20251105T100000",
+                "END:VEVENT");
+
+        ICalendarReader.Property dtStart = reader.next().property("DTSTART");
+
+        assertThat(dtStart.parameters())
+                .containsEntry("TZID", "Asia/Seoul:KST")
+                .containsEntry("VALUE", "DATE-TIME");
+        assertThat(dtStart.value()).isEqualTo("20251105T100000");
+    }
+
+    @Test
+    @DisplayName("이어 붙인 한 줄이 64 KiB를 넘으면 그 줄 번호와 함께 실패합니다.")
+    void unfolded_line_is_capped() {
+        List<String> lines = new ArrayList<>(List.of("BEGIN:VEVENT", "SUMMARY:"));
+        for (int i = 0; i < 70; i++) {
+            lines.add(" " + "a".repeat(1_000));
+        }
+        lines.add("END:VEVENT");
+        ICalendarReader reader = reader(lines.toArray(String[]::new));
+
+        assertThatThrownBy(reader::next)
+                .isInstanceOfSatisfying(ICalendarFormatException.class,
+                        exception -> assertThat(exception.getLine()).isEqualTo(2));
+    }
+
+    @Test
+    @DisplayName("줄바꿈 없이 끝없이 이어지는 입력은 64 KiB 근처에서 읽기를 멈추고 실패합니다.")
+    void physical_line_is_capped_without_reading_the_rest() {
+        AtomicLong consumed = new AtomicLong();
+        InputStream endless = new InputStream() {
+            @Override
+            public int read() {
+                consumed.incrementAndGet();
+                return 'a';
+            }
+        };
+        ICalendarReader reader = new ICalendarReader(endless);
+
+        assertThatThrownBy(reader::next)
+                .isInstanceOfSatisfying(ICalendarFormatException.class,
+                        exception -> assertThat(exception.getLine()).isEqualTo(1));
+        assertThat(consumed.get()).isLessThan(256 * 1024);
+    }
+
+    @Test
+    @DisplayName("END:VEVENT 없이 끝나면 VEVENT가 시작된 줄 번호와 함께 실패합니다.")
+    void unterminated_event_is_reported() {
+        ICalendarReader reader = reader("BEGIN:VCALENDAR", "BEGIN:VEVENT", "SUMMARY:회의");
+
+        assertThatThrownBy(reader::next)
+                .isInstanceOfSatisfying(ICalendarFormatException.class,
+                        exception -> assertThat(exception.getLine()).isEqualTo(2));
+    }
+
+    private static ICalendarReader reader(String... lines) {
+        byte[] ics = (String.join("\r\n", lines) + "\r\n").getBytes(StandardCharsets.UTF_8);
+        return new ICalendarReader(new ByteArrayInputStream(ics));
+    }
+}
@@ -0,0 +1,71 @@
+package ita.growin.domain.event.ical;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import ita.growin.domain.event.enums.RepeatType;
+import ita.growin.domain.event.recurrence.EventSeries;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Arrays;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ICalendarWriterTest {
+
+    private static final LocalDate DATE = LocalDate.of(2025, 11, 5);
+
+    @Test
+    @DisplayName("반복 일정은 간격과 마지막 시작 시점을 RRULE로 씁니다.")
+    void repeating_event_is_written_as_rrule() throws IOException {
+        EventSeries series = new EventSeries(1L, "팀 회의", false, DATE, DATE,
+                LocalTime.of(10, 0), LocalTime.of(11, 0), RepeatType.WEEK, 2, LocalDate.of(2025, 12, 31));
+
+        String ics = write(series);
+
+        assertThat(ics)
+                .contains("DTSTART:20251105T100000\r\n")
+                .contains("DTEND:20251105T110000\r\n")
+                .contains("RRULE:FREQ=WEEKLY;INTERVAL=2;UNTIL=20251231T100000\r\n");
+    }
+
+    @Test
+    @DisplayName("종일 일정의 DTEND는 종료일 다음 날입니다.")
+    void all_day_event_end_is_exclusive() throws IOException {
+        EventSeries series = new EventSeries(2L, "휴가", true, DATE, DATE.plusDays(2),
+                null, null, RepeatType.NONE, null, null);
+
+        String ics = write(series);
+
+        assertThat(ics)
+                .contains("DTSTART;VALUE=DATE:20251105\r\n")
+                .contains("DTEND;VALUE=DATE:20251108\r\n")
+                .doesNotContain("RRULE");
+    }
+
+    @Test
+    @DisplayName("긴 줄은 UTF-8 문자를 자르지 않고 75바이트 이내로 접습니다.")
+    void long_lines_are_folded_without_splitting_characters() throws IOException {
+        EventSeries series = new EventSeries(3L, "가".repeat(40) + ", 회의; 준비", true, DATE, DATE,
+                null, null, RepeatType.NONE, null, null);
+
+        String ics = write(series);
+
+        assertThat(ics.split("\r\n"))
+                .allSatisfy(line -> assertThat(line.getBytes(StandardCharsets.UTF_8).length).isLessThanOrEqualTo(75));
+        assertThat(ics.replace("\r\n ", "")).contains("SUMMARY:" + "가".repeat(40) + "\\, 회의\\; 준비\r\n");
+    }
+
+    private static String write(EventSeries... events) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ICalendarWriter writer = new ICalendarWriter(output);
+        writer.begin();
+        for (EventSeries series : Arrays.asList(events)) {
+            writer.write(series);
+        }
+        writer.end();
+        return output.toString(StandardCharsets.UTF_8);
+    }
+}
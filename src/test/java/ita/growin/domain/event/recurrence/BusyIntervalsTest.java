@@ -0,0 +1,32 @@
+package ita.growin.domain.event.recurrence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class BusyIntervalsTest {
+
+    @Test
+    @DisplayName("겹치거나 맞닿은 구간은 하나로 합치고, 떨어진 구간은 그대로 둡니다.")
+    void overlapping_and_adjacent_intervals_are_merged() {
+        BusyIntervals intervals = new BusyIntervals(4);
+        intervals.add(50, 60);
+        intervals.add(10, 20);
+        intervals.add(15, 30);
+        intervals.add(30, 40);
+        intervals.add(12, 14);
+
+        assertThat(intervals.merge()).containsExactly(10, 40, 50, 60);
+    }
+
+    @Test
+    @DisplayName("길이가 0인 구간은 바쁜 시간으로 보지 않습니다.")
+    void empty_intervals_are_ignored() {
+        BusyIntervals intervals = new BusyIntervals(0);
+        intervals.add(10, 10);
+        intervals.add(30, 20);
+
+        assertThat(intervals.merge()).isEmpty();
+    }
+}
@@ -0,0 +1,92 @@
+package ita.growin.domain.event.recurrence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import ita.growin.domain.event.enums.RepeatType;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class RecurrenceExpanderTest {
+
+    private static final LocalDate NOVEMBER_START = LocalDate.of(2025, 11, 1);
+    private static final LocalDate NOVEMBER_END = LocalDate.of(2025, 11, 30);
+
+    @Test
+    @DisplayName("주 단위 반복 일정은 이후 달에도 해당 요일마다 전개됩니다.")
+    void weekly_series_is_expanded_into_later_month() {
+        RecurrenceRule rule = new RecurrenceRule(
+                LocalDate.of(2025, 9, 3), LocalDate.of(2025, 9, 3), RepeatType.WEEK, 1, null);
+
+        List<LocalDate> starts =
+                RecurrenceExpander.occurrenceStarts(rule, NOVEMBER_START, NOVEMBER_END).toList();
+
+        assertThat(starts)
+                .containsExactly(
+                        LocalDate.of(2025, 11, 5),
+                        LocalDate.of(2025, 11, 12),
+                        LocalDate.of(2025, 11, 19),
+                        LocalDate.of(2025, 11, 26));
+    }
+
+    @Test
+    @DisplayName("반복 간격(repeatCount)과 반복 종료 날짜를 지킵니다.")
+    void interval_and_repeat_end_date_are_respected() {
+        RecurrenceRule rule = new RecurrenceRule(
+                LocalDate.of(2025, 11, 1),
+                LocalDate.of(2025, 11, 1),
+                RepeatType.DAY,
+                3,
+                LocalDate.of(2025, 11, 12));
+
+        List<LocalDate> starts =
+                RecurrenceExpander.occurrenceStarts(rule, NOVEMBER_START, NOVEMBER_END).toList();
+
+        assertThat(starts)
+                .containsExactly(
+                        LocalDate.of(2025, 11, 1),
+                        LocalDate.of(2025, 11, 4),
+                        LocalDate.of(2025, 11, 7),
+                        LocalDate.of(2025, 11, 10));
+    }
+
+    @Test
+    @DisplayName("구간 이전에 시작한 여러 날짜 일정도 구간과 겹치면 포함됩니다.")
+    void multi_day_occurrence_overlapping_window_start_is_included() {
+        RecurrenceRule rule = new RecurrenceRule(
+                LocalDate.of(2025, 1, 30), LocalDate.of(2025, 2, 2), RepeatType.MONTH, 1, null);
+
+        List<LocalDate> starts =
+                RecurrenceExpander.occurrenceStarts(rule, NOVEMBER_START, NOVEMBER_END).toList();
+
+        assertThat(starts).containsExactly(LocalDate.of(2025, 10, 30), LocalDate.of(2025, 11, 30));
+    }
+
+    @Test
+    @DisplayName("월 단위 반복은 말일을 보정합니다.")
+    void monthly_series_clamps_to_end_of_month() {
+        RecurrenceRule rule = new RecurrenceRule(
+                LocalDate.of(2025, 1, 31), LocalDate.of(2025, 1, 31), RepeatType.MONTH, 1, null);
+
+        List<LocalDate> starts = RecurrenceExpander.occurrenceStarts(
+                        rule, LocalDate.of(2025, 2, 1), LocalDate.of(2025, 2, 28))
+                .toList();
+
+        assertThat(starts).containsExactly(LocalDate.of(2025, 2, 28));
+    }
+
+    @Test
+    @DisplayName("반복 없는 일정은 구간과 겹칠 때만 한 번 포함됩니다.")
+    void non_repeating_event_is_returned_once_when_overlapping() {
+        RecurrenceRule rule = new RecurrenceRule(
+                LocalDate.of(2025, 10, 31), LocalDate.of(2025, 11, 1), RepeatType.NONE, null, null);
+
+        assertThat(RecurrenceExpander.occurrenceStarts(rule, NOVEMBER_START, NOVEMBER_END).toList())
+                .containsExactly(LocalDate.of(2025, 10, 31));
+        assertThat(RecurrenceExpander.occurrenceStarts(
+                                rule, LocalDate.of(2025, 12, 1), LocalDate.of(2025, 12, 31))
+                        .toList())
+                .isEmpty();
+    }
+}
@@ -0,0 +1,100 @@
+package ita.growin.domain.event.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import ita.growin.domain.event.dto.request.EventReqDto;
+import ita.growin.domain.event.dto.response.EventChangeResDto;
+import ita.growin.domain.event.dto.response.EventChangesResDto;
+import ita.growin.domain.event.enums.RepeatType;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// 토큰은 커밋 이후에 발급되므로 테스트 트랜잭션 없이 서비스 트랜잭션을 그대로 커밋한다.
+@ActiveProfiles("test")
+@SpringBootTest
+class EventChangeFeedTest {
+
+    private static final LocalDate DATE = LocalDate.of(2031, 3, 5);
+
+    @Autowired EventService eventService;
+
+    @Autowired TransactionTemplate transactionTemplate;
+
+    private final List<Long> createdIds = new CopyOnWriteArrayList<>();
+
+    @AfterEach
+    void cleanUp() {
+        eventService.deleteEvents(createdIds);
+    }
+
+    @Test
+    @DisplayName("먼저 기록되고 늦게 커밋된 변경도 이미 받은 토큰 이후에 내려갑니다.")
+    void late_commit_is_not_skipped() throws Exception {
+        String baseline = drain();
+        CountDownLatch recorded = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<Void> slow = CompletableFuture.runAsync(() -> transactionTemplate.executeWithoutResult(
+                status -> {
+                    createdIds.add(create("오래 걸리는 쓰기"));
+                    recorded.countDown();
+                    await(release);
+                }));
+        await(recorded);
+        long fast = create("빠른 쓰기");
+        createdIds.add(fast);
+
+        EventChangesResDto first = eventService.getChangesSince(baseline, 100);
+        release.countDown();
+        slow.get(10, TimeUnit.SECONDS);
+        EventChangesResDto second = eventService.getChangesSince(first.nextToken(), 100);
+
+        assertThat(first.changes()).extracting(EventChangeResDto::eventId).containsExactly(fast);
+        assertThat(second.changes()).extracting(EventChangeResDto::eventId)
+                .containsExactly(createdIds.get(0));
+    }
+
+    private String drain() {
+        EventChangesResDto page = eventService.getChangesSince(null, 500);
+        while (page.hasNext()) {
+            page = eventService.getChangesSince(page.nextToken(), 500);
+        }
+        return page.nextToken();
+    }
+
+    private long create(String title) {
+        EventReqDto request = EventReqDto.builder()
+                .title(title)
+                .allDay(false)
+                .startDate(DATE)
+                .endDate(DATE)
+                .startDay(DATE.getDayOfWeek())
+                .endDay(DATE.getDayOfWeek())
+                .startTime(LocalTime.of(10, 0))
+                .endTime(LocalTime.of(11, 0))
+                .repeatType(RepeatType.NONE)
+                .build();
+        return eventService.createEvent(request).eventId();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(exception);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package ita.growin.domain.event.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import ita.growin.domain.event.entity.Event;
+import ita.growin.domain.event.enums.RepeatType;
+import ita.growin.domain.user.entity.User;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+@Transactional
+@ActiveProfiles("test")
+@SpringBootTest
+class EventConflictTest {
+
+    private static final LocalDate DATE = LocalDate.of(2025, 11, 5);
+
+    @Autowired EventConflictFinder eventConflictFinder;
+
+    @Autowired EntityManager entityManager;
+
+    @Test
+    @DisplayName("시간이 겹치는 일정(반복 발생 포함)만 충돌로 반환하고, 맞닿은 일정과 종일 일정은 제외합니다.")
+    void overlapping_timed_events_are_reported() {
+        User owner = user();
+        Long weekly = persist(owner, DATE.minusWeeks(2), 10, 11, RepeatType.WEEK, 1, false);
+        Long overlapping = persist(owner, DATE, 10, 12, RepeatType.NONE, null, false);
+        persist(owner, DATE, 12, 13, RepeatType.NONE, null, false);
+        persist(owner, DATE, null, null, RepeatType.NONE, null, true);
+
+        assertThat(eventConflictFinder.findConflicts(event(owner, DATE, 11, 12, RepeatType.NONE, null, false)))
+                .containsExactlyInAnyOrder(overlapping);
+        assertThat(eventConflictFinder.findConflicts(event(owner, DATE, 10, 11, RepeatType.NONE, null, false)))
+                .contains(weekly, overlapping);
+    }
+
+    @Test
+    @DisplayName("오래전에 시작한 반복 일정은 시작일이 아니라 오늘 이후의 발생 일정으로 충돌을 찾습니다.")
+    void long_running_series_is_checked_from_today() {
+        User owner = user();
+        LocalDate today = LocalDate.now();
+        LocalDate seriesStart = today.minusYears(2);
+        LocalDate nextWeek = seriesStart.plusWeeks(ChronoUnit.WEEKS.between(seriesStart, today) + 1);
+        Long upcoming = persist(owner, nextWeek, 10, 11, RepeatType.NONE, null, false);
+
+        assertThat(eventConflictFinder.findConflicts(event(owner, seriesStart, 10, 11, RepeatType.WEEK, 1, false)))
+                .containsExactly(upcoming);
+    }
+
+    @Test
+    @DisplayName("다른 사용자의 일정은 시간이 겹쳐도 충돌로 반환하지 않습니다.")
+    void other_owners_events_are_not_reported() {
+        User owner = user();
+        User other = user();
+        Long own = persist(owner, DATE, 10, 11, RepeatType.NONE, null, false);
+        Long others = persist(other, DATE, 10, 11, RepeatType.NONE, null, false);
+
+        assertThat(eventConflictFinder.findConflicts(event(owner, DATE, 10, 11, RepeatType.NONE, null, false)))
+                .containsExactly(own);
+        assertThat(eventConflictFinder.findConflicts(event(other, DATE, 10, 11, RepeatType.NONE, null, false)))
+                .containsExactly(others);
+    }
+
+    @Test
+    @DisplayName("소유자가 없는 일정은 다른 일정과 비교하지 않습니다.")
+    void ownerless_event_has_no_conflicts() {
+        persist(user(), DATE, 10, 11, RepeatType.NONE, null, false);
+        persist(null, DATE, 10, 11, RepeatType.NONE, null, false);
+
+        assertThat(eventConflictFinder.findConflicts(event(null, DATE, 10, 11, RepeatType.NONE, null, false)))
+                .isEmpty();
+    }
+
+    private User user() {
+        User user = new User(null, new ArrayList<>());
+        entityManager.persist(user);
+        return user;
+    }
+
+    private Long persist(User owner, LocalDate date, Integer startHour, Integer endHour, RepeatType repeatType,
+            Integer repeatCount, boolean allDay) {
+        Event event = event(owner, date, startHour, endHour, repeatType, repeatCount, allDay);
+        entityManager.persist(event);
+        entityManager.flush();
+        return event.getId();
+    }
+
+    private static Event event(User owner, LocalDate date, Integer startHour, Integer endHour, RepeatType repeatType,
+            Integer repeatCount, boolean allDay) {
+        return Event.builder()
+                .title("회의")
+                .allDay(allDay)
+                .startDate(date)
+                .endDate(date)
+                .startDay(date.getDayOfWeek())
+                .endDay(date.getDayOfWeek())
+                .startTime(startHour == null ? null : LocalTime.of(startHour, 0))
+                .endTime(endHour == null ? null : LocalTime.of(endHour, 0))
+                .repeatType(repeatType)
+                .repeatCount(repeatCount)
+                .user(owner)
+                .build();
+    }
+}
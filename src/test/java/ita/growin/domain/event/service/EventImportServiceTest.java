@@ -0,0 +1,118 @@
+package ita.growin.domain.event.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import ita.growin.domain.event.dto.response.EventImportResDto;
+import ita.growin.domain.event.dto.response.EventListResDto;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+@Transactional
+@ActiveProfiles("test")
+@SpringBootTest
+class EventImportServiceTest {
+
+    private static final LocalDate DATE = LocalDate.of(2029, 4, 10);
+
+    @Autowired EventImportService eventImportService;
+
+    @Autowired EventService eventService;
+
+    @Test
+    @DisplayName("해석할 수 없는 일정은 줄 번호와 함께 건너뛰고 나머지는 저장합니다.")
+    void invalid_events_are_reported_per_line() {
+        EventImportResDto result = importCalendar(
+                "BEGIN:VCALENDAR",
+                "BEGIN:VEVENT",
+                "SUMMARY:첫 번째",
+                "DTSTART:20290410T100000",
+                "DTEND:20290410T110000",
+                "END:VEVENT",
+                "BEGIN:VEVENT",
+                "SUMMARY:지원하지 않는 반복",
+                "DTSTART:20290410T120000",
+                "RRULE:FREQ=WEEKLY;BYDAY=MO,WE",
+                "END:VEVENT",
+                "BEGIN:VEVENT",
+                "SUMMARY:시작 없음",
+                "END:VEVENT",
+                "BEGIN:VEVENT",
+                "SUMMARY:세 번째",
+                "DTSTART;VALUE=DATE:20290410",
+                "END:VEVENT",
+                "END:VCALENDAR");
+
+        assertThat(result.imported()).isEqualTo(2);
+        assertThat(result.failed()).isEqualTo(2);
+        assertThat(result.errors()).extracting(EventImportResDto.LineError::line).containsExactly(10, 12);
+        assertThat(titlesOn(DATE)).containsExactlyInAnyOrder("첫 번째", "세 번째");
+    }
+
+    @Test
+    @DisplayName("파일 구조가 깨지면 그 앞까지 저장하고 깨진 위치를 보고합니다.")
+    void broken_structure_keeps_preceding_events() {
+        EventImportResDto result = importCalendar(
+                "BEGIN:VCALENDAR",
+                "BEGIN:VEVENT",
+                "SUMMARY:첫 번째",
+                "DTSTART:20290410T100000",
+                "END:VEVENT",
+                "BEGIN:VEVENT",
+                "SUMMARY:끝나지 않음");
+
+        assertThat(result.imported()).isEqualTo(1);
+        assertThat(result.failed()).isEqualTo(1);
+        assertThat(result.errors()).extracting(EventImportResDto.LineError::line).containsExactly(6);
+    }
+
+    @Test
+    @DisplayName("청크 저장이 실패해도 요청은 성공으로 끝나고, 실패한 청크의 줄 범위를 보고합니다.")
+    void failed_chunk_is_reported_in_result() {
+        EventService failingService = mock(EventService.class);
+        when(failingService.createEvents(anyList())).thenThrow(new DataAccessResourceFailureException("down"));
+        EventImportService service = new EventImportService(failingService);
+
+        EventImportResDto result = service.importCalendar(ics(
+                "BEGIN:VCALENDAR",
+                "BEGIN:VEVENT",
+                "SUMMARY:첫 번째",
+                "DTSTART:20290410T100000",
+                "END:VEVENT",
+                "BEGIN:VEVENT",
+                "SUMMARY:두 번째",
+                "DTSTART:20290411T100000",
+                "END:VEVENT",
+                "END:VCALENDAR"));
+
+        assertThat(result.imported()).isZero();
+        assertThat(result.failed()).isEqualTo(2);
+        assertThat(result.errors()).extracting(EventImportResDto.LineError::line).containsExactly(2);
+        assertThat(result.errors().get(0).message()).contains("2~6");
+    }
+
+    private EventImportResDto importCalendar(String... lines) {
+        return eventImportService.importCalendar(ics(lines));
+    }
+
+    private static ByteArrayInputStream ics(String... lines) {
+        byte[] ics = (String.join("\r\n", lines) + "\r\n").getBytes(StandardCharsets.UTF_8);
+        return new ByteArrayInputStream(ics);
+    }
+
+    private List<String> titlesOn(LocalDate date) {
+        return eventService.getEventsByDate(date, PageRequest.of(0, 20)).map(EventListResDto::title).getContent();
+    }
+}
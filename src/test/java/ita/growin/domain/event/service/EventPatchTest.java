@@ -0,0 +1,85 @@
+package ita.growin.domain.event.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import ita.growin.domain.event.dto.request.EventPatchReqDto;
+import ita.growin.domain.event.entity.Event;
+import ita.growin.domain.event.enums.RepeatType;
+import ita.growin.global.exception.EventException;
+import ita.growin.global.exception.errorcode.EventErrorCode;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+@Transactional
+@ActiveProfiles("test")
+@SpringBootTest
+class EventPatchTest {
+
+    private static final LocalDate DATE = LocalDate.of(2025, 11, 5);
+
+    @Autowired EventService eventService;
+
+    @Autowired EntityManager entityManager;
+
+    @Test
+    @DisplayName("부분 수정은 보낸 필드만 바꾸고 버전을 올립니다.")
+    void patch_changes_only_given_fields() {
+        Event event = seed();
+
+        eventService.patchEvent(event.getId(), EventPatchReqDto.builder().title("변경된 회의").build());
+
+        Event patched = reload(event);
+        assertThat(patched.getTitle()).isEqualTo("변경된 회의");
+        assertThat(patched.getStartTime()).isEqualTo(LocalTime.of(10, 0));
+        assertThat(patched.getVersion()).isEqualTo(event.getVersion() + 1);
+    }
+
+    @Test
+    @DisplayName("버전을 함께 보내면 현재 버전과 같을 때만 반영되고, 오래된 버전은 충돌로 거절됩니다.")
+    void versioned_patch_rejects_stale_version() {
+        Event event = seed();
+        long version = event.getVersion();
+
+        eventService.patchEvent(event.getId(),
+                EventPatchReqDto.builder().endTime(LocalTime.of(12, 0)).version(version).build());
+
+        assertThat(reload(event).getEndTime()).isEqualTo(LocalTime.of(12, 0));
+        assertThatThrownBy(() -> eventService.patchEvent(event.getId(),
+                EventPatchReqDto.builder().title("늦은 수정").version(version).build()))
+                .isInstanceOfSatisfying(EventException.class,
+                        exception -> assertThat(exception.getErrorCode()).isEqualTo(EventErrorCode.EVENT_VERSION_CONFLICT));
+        assertThat(reload(event).getTitle()).isEqualTo("팀 회의");
+    }
+
+    private Event seed() {
+        Event event = Event.builder()
+                .title("팀 회의")
+                .allDay(false)
+                .startDate(DATE)
+                .endDate(DATE)
+                .startDay(DATE.getDayOfWeek())
+                .endDay(DATE.getDayOfWeek())
+                .startTime(LocalTime.of(10, 0))
+                .endTime(LocalTime.of(11, 0))
+                .repeatType(RepeatType.NONE)
+                .build();
+        entityManager.persist(event);
+        entityManager.flush();
+        entityManager.clear();
+        return event;
+    }
+
+    private Event reload(Event event) {
+        entityManager.flush();
+        entityManager.clear();
+        return entityManager.find(Event.class, event.getId());
+    }
+}
@@ -0,0 +1,99 @@
+package ita.growin.domain.event.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import ita.growin.domain.event.dto.request.EventPatchReqDto;
+import ita.growin.domain.event.dto.request.EventReqDto;
+import ita.growin.domain.event.dto.response.EventDetailResDto;
+import ita.growin.domain.event.enums.RepeatType;
+import ita.growin.global.metrics.QueryCountInspector;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+// 2차 캐시는 커밋된 데이터만 담으므로 테스트 트랜잭션 없이 서비스 트랜잭션을 그대로 커밋한다.
+@ActiveProfiles("test")
+@SpringBootTest
+class EventSecondLevelCacheTest {
+
+    private static final LocalDate DATE = LocalDate.of(2025, 11, 5);
+
+    @Autowired EventService eventService;
+
+    @Autowired EntityManagerFactory entityManagerFactory;
+
+    private final List<Long> createdIds = new ArrayList<>();
+
+    @AfterEach
+    void cleanUp() {
+        eventService.deleteEvents(createdIds);
+    }
+
+    @Test
+    @DisplayName("한 번 읽은 일정은 2차 캐시에서 SQL 없이 조회합니다.")
+    void repeated_detail_reads_hit_second_level_cache() {
+        long eventId = create();
+        eventService.getEventDetail(eventId);
+
+        Statistics statistics = statistics();
+        long hits = statistics.getSecondLevelCacheHitCount();
+        QueryCountInspector.reset();
+
+        EventDetailResDto detail = eventService.getEventDetail(eventId);
+
+        assertThat(detail.title()).isEqualTo("회의");
+        assertThat(QueryCountInspector.current()).isZero();
+        assertThat(statistics.getSecondLevelCacheHitCount()).isGreaterThan(hits);
+    }
+
+    @Test
+    @DisplayName("버전 조건부 수정은 수정한 일정만 캐시에서 갱신하고, 다른 일정은 계속 캐시에서 조회합니다.")
+    void versioned_patch_only_invalidates_patched_event() {
+        long eventId = create();
+        long otherId = create();
+        EventDetailResDto before = eventService.getEventDetail(eventId);
+        eventService.getEventDetail(otherId);
+
+        eventService.patchEvent(eventId,
+                EventPatchReqDto.builder().title("변경된 회의").version(before.version()).build());
+
+        EventDetailResDto after = eventService.getEventDetail(eventId);
+        assertThat(after.title()).isEqualTo("변경된 회의");
+        assertThat(after.version()).isEqualTo(before.version() + 1);
+
+        QueryCountInspector.reset();
+        assertThat(eventService.getEventDetail(otherId).title()).isEqualTo("회의");
+        assertThat(QueryCountInspector.current()).isZero();
+    }
+
+    private long create() {
+        EventReqDto request = EventReqDto.builder()
+                .title("회의")
+                .allDay(false)
+                .startDate(DATE)
+                .endDate(DATE)
+                .startDay(DATE.getDayOfWeek())
+                .endDay(DATE.getDayOfWeek())
+                .startTime(LocalTime.of(10, 0))
+                .endTime(LocalTime.of(11, 0))
+                .repeatType(RepeatType.NONE)
+                .build();
+        long eventId = eventService.createEvent(request).eventId();
+        createdIds.add(eventId);
+        return eventId;
+    }
+
+    private Statistics statistics() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+}
@@ -0,0 +1,78 @@
+package ita.growin.domain.event.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import ita.growin.domain.event.dto.response.EventWithTasksResDto;
+import ita.growin.domain.event.entity.Event;
+import ita.growin.domain.event.enums.RepeatType;
+import ita.growin.domain.task.entity.Task;
+import ita.growin.global.metrics.QueryCountInspector;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+@Transactional
+@ActiveProfiles("test")
+@SpringBootTest
+class EventWithTasksQueryCountTest {
+
+    private static final LocalDate DATE = LocalDate.of(2025, 11, 5);
+    private static final int TASKS_PER_EVENT = 3;
+
+    @Autowired EventService eventService;
+
+    @Autowired EntityManager entityManager;
+
+    @Test
+    @DisplayName("일정 + 할 일 월별 조회의 SQL 실행 수는 일정 수가 늘어도 일정합니다.")
+    void statement_count_does_not_grow_with_event_count() {
+        seed(5);
+        int fewEvents = countStatements();
+
+        seed(45);
+        int manyEvents = countStatements();
+
+        assertThat(fewEvents).isEqualTo(2);
+        assertThat(manyEvents).isEqualTo(fewEvents);
+    }
+
+    private int countStatements() {
+        entityManager.flush();
+        entityManager.clear();
+        QueryCountInspector.reset();
+
+        Page<EventWithTasksResDto> page =
+                eventService.getEventsWithTasksByMonth(DATE.getYear(), DATE.getMonthValue(), PageRequest.of(0, 100));
+
+        assertThat(page.getContent()).allSatisfy(event -> assertThat(event.tasks()).hasSize(TASKS_PER_EVENT));
+        return QueryCountInspector.current();
+    }
+
+    private void seed(int count) {
+        for (int i = 0; i < count; i++) {
+            Event event = Event.builder()
+                    .title("일정 " + i)
+                    .allDay(false)
+                    .startDate(DATE)
+                    .endDate(DATE)
+                    .startDay(DATE.getDayOfWeek())
+                    .endDay(DATE.getDayOfWeek())
+                    .startTime(LocalTime.of(10, 0))
+                    .endTime(LocalTime.of(11, 0))
+                    .repeatType(RepeatType.NONE)
+                    .build();
+            entityManager.persist(event);
+            for (int j = 0; j < TASKS_PER_EVENT; j++) {
+                entityManager.persist(new Task(null, event));
+            }
+        }
+    }
+}
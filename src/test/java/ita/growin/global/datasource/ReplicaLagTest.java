@@ -0,0 +1,147 @@
+package ita.growin.global.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import ita.growin.domain.event.dto.request.EventPatchReqDto;
+import ita.growin.domain.event.dto.request.EventReqDto;
+import ita.growin.domain.event.dto.response.EventListResDto;
+import ita.growin.domain.event.dto.response.EventResDto;
+import ita.growin.domain.event.entity.Event;
+import ita.growin.domain.event.enums.RepeatType;
+import ita.growin.domain.event.service.EventService;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+// replica(growin_replica)에는 스키마만 있고 데이터는 복제되지 않는다. = 끝없이 지연된 replica
+@ActiveProfiles("test")
+@SpringBootTest(properties = {
+        "growin.datasource.replica.jdbc-url=jdbc:h2:mem:growin_replica;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "growin.datasource.replica.username=sa"
+})
+@AutoConfigureMockMvc(addFilters = false)
+class ReplicaLagTest {
+
+    private static final LocalDate DATE = LocalDate.of(2032, 7, 14);
+
+    @Autowired EventService eventService;
+
+    @Autowired MockMvc mockMvc;
+
+    @Autowired EntityManagerFactory entityManagerFactory;
+
+    @Autowired @Qualifier("primaryDataSource") DataSource primary;
+
+    @Autowired @Qualifier("replicaDataSource") DataSource replica;
+
+    private final List<Long> createdIds = new ArrayList<>();
+
+    @BeforeEach
+    void copySchemaToReplica() {
+        JdbcTemplate replicaJdbc = new JdbcTemplate(replica);
+        Integer tables = replicaJdbc.queryForObject(
+                "SELECT COUNT(*) FROM INFORMATION_SCHEMA.TABLES WHERE TABLE_NAME = 'EVENT'", Integer.class);
+        if (tables != null && tables > 0) {
+            return;
+        }
+        new JdbcTemplate(primary).queryForList("SCRIPT NODATA", String.class).stream()
+                .filter(statement -> !statement.startsWith("--") && !statement.startsWith("CREATE USER"))
+                .forEach(replicaJdbc::execute);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        ReadYourWrites.clear();
+        new JdbcTemplate(replica).update("DELETE FROM event");
+        eventService.deleteEvents(createdIds);
+    }
+
+    @Test
+    @DisplayName("월별 조회 캐시는 지연된 replica가 아니라 primary에서 채웁니다.")
+    void month_cache_is_loaded_from_primary() {
+        long eventId = create();
+
+        List<Long> month = eventService.getEventsByMonth(DATE.getYear(), DATE.getMonthValue(), PageRequest.of(0, 20))
+                .map(EventResDto::eventId)
+                .getContent();
+
+        assertThat(month).contains(eventId);
+    }
+
+    @Test
+    @DisplayName("상세 조회가 지연된 replica에서 이전 행을 읽으면, ETag도 그 행의 버전으로 만듭니다.")
+    void detail_etag_matches_body_read_from_lagging_replica() throws Exception {
+        long eventId = create();
+        copyToReplica(eventId);
+        eventService.patchEvent(eventId, EventPatchReqDto.builder().title("변경된 회의").build());
+        entityManagerFactory.getCache().evict(Event.class, eventId);
+
+        mockMvc.perform(get("/events/{eventId}", eventId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.title").value("회의"))
+                .andExpect(jsonPath("$.data.version").value(0))
+                .andExpect(header().string(HttpHeaders.ETAG, "W/\"e" + eventId + "-0\""));
+    }
+
+    @Test
+    @DisplayName("replica에서 읽은 지연된 결과는 쿼리 캐시에 남지 않아, primary 읽기가 이전 결과를 받지 않습니다.")
+    void replica_results_are_not_put_into_query_cache() {
+        long eventId = create();
+
+        assertThat(eventService.getEventsByDate(DATE, PageRequest.of(0, 20))).isEmpty();
+
+        ReadYourWrites.stick();
+        assertThat(eventService.getEventsByDate(DATE, PageRequest.of(0, 20)))
+                .extracting(EventListResDto::eventId)
+                .contains(eventId);
+    }
+
+    // 복제가 멈춘 시점의 행을 replica에 그대로 둔다.
+    private void copyToReplica(long eventId) {
+        Map<String, Object> row = new JdbcTemplate(primary)
+                .queryForMap("SELECT * FROM event WHERE event_id = ?", eventId);
+        String columns = String.join(", ", row.keySet());
+        String placeholders = row.keySet().stream().map(column -> "?").collect(Collectors.joining(", "));
+        new JdbcTemplate(replica).update("INSERT INTO event (" + columns + ") VALUES (" + placeholders + ")",
+                row.values().toArray());
+    }
+
+    private long create() {
+        EventReqDto request = EventReqDto.builder()
+                .title("회의")
+                .allDay(false)
+                .startDate(DATE)
+                .endDate(DATE)
+                .startDay(DATE.getDayOfWeek())
+                .endDay(DATE.getDayOfWeek())
+                .startTime(LocalTime.of(10, 0))
+                .endTime(LocalTime.of(11, 0))
+                .repeatType(RepeatType.NONE)
+                .build();
+        long eventId = eventService.createEvent(request).eventId();
+        createdIds.add(eventId);
+        return eventId;
+    }
+}
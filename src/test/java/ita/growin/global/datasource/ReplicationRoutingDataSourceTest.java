@@ -0,0 +1,78 @@
+package ita.growin.global.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.interceptor.RuleBasedTransactionAttribute;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// primary(growin)와 replica(growin_replica) 두 내장 H2로 라우팅을 확인한다.
+@ActiveProfiles("test")
+@SpringBootTest(properties = {
+        "growin.datasource.replica.jdbc-url=jdbc:h2:mem:growin_replica;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "growin.datasource.replica.username=sa"
+})
+class ReplicationRoutingDataSourceTest {
+
+    @Autowired JdbcTemplate jdbcTemplate;
+
+    @Autowired PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void clear() {
+        ReadYourWrites.clear();
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 replica, 쓰기 트랜잭션과 트랜잭션 밖은 primary를 사용합니다.")
+    void read_only_transactions_go_to_replica() {
+        assertThat(databaseIn(true)).isEqualTo("GROWIN_REPLICA");
+        assertThat(databaseIn(false)).isEqualTo("GROWIN");
+        assertThat(currentDatabase()).isEqualTo("GROWIN");
+    }
+
+    @Test
+    @DisplayName("방금 쓴 요청(read-your-writes)의 읽기는 primary에서 처리합니다.")
+    void sticky_reads_go_to_primary() {
+        ReadYourWrites.stick();
+
+        assertThat(databaseIn(true)).isEqualTo("GROWIN");
+    }
+
+    @Test
+    @DisplayName("primary 라벨이 붙은 읽기 전용 트랜잭션은 읽기 전용을 유지한 채 primary에서 읽습니다.")
+    void primary_labeled_read_only_transactions_go_to_primary() {
+        RuleBasedTransactionAttribute attribute = new RuleBasedTransactionAttribute();
+        attribute.setReadOnly(true);
+        attribute.setLabels(List.of(ReplicationRoutingDataSource.PRIMARY_LABEL));
+
+        TransactionStatus status = transactionManager.getTransaction(attribute);
+        try {
+            assertThat(TransactionSynchronizationManager.isCurrentTransactionReadOnly()).isTrue();
+            assertThat(currentDatabase()).isEqualTo("GROWIN");
+        } finally {
+            transactionManager.commit(status);
+        }
+        assertThat(databaseIn(true)).isEqualTo("GROWIN_REPLICA");
+    }
+
+    private String databaseIn(boolean readOnly) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(readOnly);
+        return transaction.execute(status -> currentDatabase());
+    }
+
+    private String currentDatabase() {
+        return jdbcTemplate.queryForObject("SELECT DATABASE()", String.class);
+    }
+}
@@ -0,0 +1,51 @@
+package ita.growin.global.ratelimit;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import ita.growin.global.exception.errorcode.CommonErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+@ActiveProfiles("test")
+@SpringBootTest(properties = {
+        "growin.rate-limit.enabled=true",
+        "growin.rate-limit.read.capacity=2",
+        "growin.rate-limit.read.per-second=0.1"
+})
+@AutoConfigureMockMvc
+class RateLimitFilterTest {
+
+    @Autowired MockMvc mockMvc;
+
+    @Test
+    @DisplayName("같은 IP의 읽기 요청이 예산을 넘으면 429와 Retry-After로 거절합니다.")
+    void rejects_reads_over_budget() throws Exception {
+        mockMvc.perform(get("/health").with(remoteAddr("10.0.0.1"))).andExpect(status().isOk());
+        mockMvc.perform(get("/health").with(remoteAddr("10.0.0.1"))).andExpect(status().isOk());
+
+        mockMvc.perform(get("/health").with(remoteAddr("10.0.0.1")))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "10"))
+                .andExpect(jsonPath("$.status").value(429))
+                .andExpect(jsonPath("$.message").value(CommonErrorCode.TOO_MANY_REQUESTS.getMessage()));
+
+        mockMvc.perform(get("/health").with(remoteAddr("10.0.0.2"))).andExpect(status().isOk());
+    }
+
+    private static RequestPostProcessor remoteAddr(String address) {
+        return request -> {
+            request.setRemoteAddr(address);
+            return request;
+        };
+    }
+}
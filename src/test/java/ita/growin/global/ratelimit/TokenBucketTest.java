@@ -0,0 +1,40 @@
+package ita.growin.global.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TokenBucketTest {
+
+    private static final long INTERVAL = TimeUnit.MILLISECONDS.toNanos(100);
+
+    @Test
+    @DisplayName("용량만큼 연속 허용하고, 초과 요청에는 다음 토큰까지 남은 시간을 반환합니다.")
+    void allows_burst_up_to_capacity() {
+        TokenBucket bucket = new TokenBucket(3, INTERVAL, 0);
+
+        assertThat(bucket.tryAcquire(0)).isZero();
+        assertThat(bucket.tryAcquire(0)).isZero();
+        assertThat(bucket.tryAcquire(0)).isZero();
+        assertThat(bucket.tryAcquire(0)).isEqualTo(INTERVAL);
+        assertThat(bucket.tryAcquire(INTERVAL / 2)).isEqualTo(INTERVAL / 2);
+    }
+
+    @Test
+    @DisplayName("시간이 지나면 충전 속도만큼 다시 허용하고, 용량 이상으로는 쌓이지 않습니다.")
+    void refills_at_rate_without_exceeding_capacity() {
+        TokenBucket bucket = new TokenBucket(2, INTERVAL, 0);
+        bucket.tryAcquire(0);
+        bucket.tryAcquire(0);
+
+        assertThat(bucket.tryAcquire(INTERVAL)).isZero();
+        assertThat(bucket.tryAcquire(INTERVAL)).isPositive();
+
+        long idle = INTERVAL * 100;
+        assertThat(bucket.tryAcquire(idle)).isZero();
+        assertThat(bucket.tryAcquire(idle)).isZero();
+        assertThat(bucket.tryAcquire(idle)).isPositive();
+    }
+}
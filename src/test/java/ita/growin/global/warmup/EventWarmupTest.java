@@ -0,0 +1,37 @@
+package ita.growin.global.warmup;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.time.Duration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+// max-duration은 JVM 시작부터 세는데, 테스트 JVM은 앞선 테스트들이 먼저 써서 오래 떠 있을 수 있어 넉넉히 둔다.
+@ActiveProfiles("test")
+@SpringBootTest(properties = {
+        "growin.warmup.enabled=true",
+        "growin.warmup.iterations=5",
+        "growin.warmup.min-rounds=2",
+        "growin.warmup.latency-target=5s",
+        "growin.warmup.max-duration=1h"
+})
+class EventWarmupTest {
+
+    @Autowired WarmupHealthIndicator warmupHealthIndicator;
+
+    @Test
+    @DisplayName("기동 후 워밍업이 최소 라운드를 돌고 지연 목표를 만족하면 readiness의 warmup 항목이 UP이 됩니다.")
+    void warmup_marks_ready_after_reaching_latency_target() {
+        await().atMost(Duration.ofSeconds(30))
+                .until(() -> !warmupHealthIndicator.health().getStatus().equals(Status.OUT_OF_SERVICE));
+
+        assertThat(warmupHealthIndicator.health().getStatus()).isEqualTo(Status.UP);
+        assertThat(warmupHealthIndicator.health().getDetails()).containsKeys("rounds", "p95Millis");
+        assertThat((Integer) warmupHealthIndicator.health().getDetails().get("rounds")).isGreaterThanOrEqualTo(2);
+    }
+}
@@ -0,0 +1,246 @@
+package ita.growin.load;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+// EventController 부하 테스트. ./gradlew loadTest 로만 실행된다 (기본 test 태스크에서는 제외).
+//
+// 설정 (-Pload.xxx)
+// - load.rps: 목표 초당 요청 수 (기본 100)
+// - load.durationSeconds: 측정 시간 (기본 30)
+// - load.warmupSeconds: 측정 전 워밍업 시간 (기본 5)
+// - load.seedEvents: 미리 넣어둘 일정 수 (기본 5000)
+// - load.mix: 엔드포인트 비율 (기본 create=10,update=5,month=60,day=25)
+// - load.maxErrorRate: 허용 에러율 (기본 0.01)
+//
+// 요청은 정해진 간격으로 비동기 발송하고(open model), 지연 시간은 예정 발송 시각부터 측정해
+// 서버가 밀릴 때 지연이 과소 측정되지 않게 한다.
+@Tag("load")
+@ActiveProfiles("test")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class EventLoadTest {
+
+    private static final int SEED_BATCH_SIZE = 1000;
+    private static final LocalDate BASE_DATE = LocalDate.of(2025, 1, 1);
+    private static final long MAX_LATENCY_MICROS = TimeUnit.SECONDS.toMicros(60);
+
+    @LocalServerPort int port;
+
+    @Autowired ObjectMapper objectMapper;
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    private final List<Long> eventIds = new ArrayList<>();
+
+    @Test
+    @DisplayName("설정된 RPS와 요청 비율로 부하를 주고 엔드포인트별 지연 시간/처리량/에러율을 기록합니다.")
+    void load() throws Exception {
+        int rps = Integer.getInteger("load.rps", 100);
+        int durationSeconds = Integer.getInteger("load.durationSeconds", 30);
+        int warmupSeconds = Integer.getInteger("load.warmupSeconds", 5);
+        int seedEvents = Integer.getInteger("load.seedEvents", 5000);
+        double maxErrorRate = Double.parseDouble(System.getProperty("load.maxErrorRate", "0.01"));
+        Map<Endpoint, Integer> mix =
+                parseMix(System.getProperty("load.mix", "create=10,update=5,month=60,day=25"));
+
+        seed(seedEvents);
+        run(mix, rps, warmupSeconds, null);
+
+        Map<Endpoint, EndpointStats> stats = new LinkedHashMap<>();
+        mix.keySet().forEach(endpoint -> stats.put(endpoint, new EndpointStats()));
+        long elapsedNanos = run(mix, rps, durationSeconds, stats);
+
+        report(stats, elapsedNanos, rps);
+
+        long total = stats.values().stream().mapToLong(EndpointStats::count).sum();
+        long errors = stats.values().stream().mapToLong(EndpointStats::errors).sum();
+        assertThat(total).isPositive();
+        assertThat((double) errors / total).isLessThanOrEqualTo(maxErrorRate);
+    }
+
+    // 일괄 생성 API로 시드 데이터 적재 (약 10%는 주 단위 반복 일정)
+    private void seed(int count) throws Exception {
+        for (int offset = 0; offset < count; offset += SEED_BATCH_SIZE) {
+            int size = Math.min(SEED_BATCH_SIZE, count - offset);
+            StringBuilder body = new StringBuilder("{\"events\":[");
+            for (int i = 0; i < size; i++) {
+                if (i > 0) {
+                    body.append(',');
+                }
+                int n = offset + i;
+                body.append(eventJson(BASE_DATE.plusDays(n % 365), n % 10 == 0));
+            }
+            body.append("]}");
+
+            HttpResponse<String> response = client.send(
+                    jsonRequest("/events/batch").POST(HttpRequest.BodyPublishers.ofString(body.toString())).build(),
+                    HttpResponse.BodyHandlers.ofString());
+            assertThat(response.statusCode()).isEqualTo(200);
+            for (JsonNode event : objectMapper.readTree(response.body()).path("data")) {
+                eventIds.add(event.path("eventId").asLong());
+            }
+        }
+    }
+
+    // 목표 RPS 간격으로 요청을 발송하고, 모든 응답을 기다린 뒤 경과 시간을 반환한다.
+    private long run(Map<Endpoint, Integer> mix, int rps, int seconds, Map<Endpoint, EndpointStats> stats) {
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / rps;
+        long durationNanos = TimeUnit.SECONDS.toNanos(seconds);
+        int totalWeight = mix.values().stream().mapToInt(Integer::intValue).sum();
+        List<CompletableFuture<?>> inFlight = new ArrayList<>();
+
+        long start = System.nanoTime();
+        for (long i = 0; i * intervalNanos < durationNanos; i++) {
+            long intended = start + i * intervalNanos;
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+
+            Endpoint endpoint = pick(mix, totalWeight);
+            CompletableFuture<HttpResponse<Void>> future =
+                    client.sendAsync(request(endpoint), HttpResponse.BodyHandlers.discarding());
+            if (stats != null) {
+                EndpointStats endpointStats = stats.get(endpoint);
+                future = future.whenComplete((response, error) -> endpointStats.record(
+                        System.nanoTime() - intended, error == null && response.statusCode() < 400));
+            }
+            inFlight.add(future.exceptionally(error -> null));
+        }
+        CompletableFuture.allOf(inFlight.toArray(CompletableFuture[]::new)).join();
+        return System.nanoTime() - start;
+    }
+
+    private HttpRequest request(Endpoint endpoint) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        LocalDate date = BASE_DATE.plusDays(random.nextInt(365));
+        return switch (endpoint) {
+            case CREATE -> jsonRequest("/events")
+                    .POST(HttpRequest.BodyPublishers.ofString(eventJson(date, false)))
+                    .build();
+            case UPDATE -> jsonRequest("/events/" + eventIds.get(random.nextInt(eventIds.size())))
+                    .PUT(HttpRequest.BodyPublishers.ofString(eventJson(date, false)))
+                    .build();
+            case MONTH -> jsonRequest("/events/month/" + date.getYear() + "/" + date.getMonthValue())
+                    .GET()
+                    .build();
+            case DAY -> jsonRequest("/events/day/" + date).GET().build();
+        };
+    }
+
+    private HttpRequest.Builder jsonRequest(String path) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .header("Accept", "application/json");
+    }
+
+    private static String eventJson(LocalDate date, boolean weekly) {
+        DayOfWeek day = date.getDayOfWeek();
+        return """
+                {"title":"부하 테스트 일정","allDay":false,"startDate":"%s","endDate":"%s",\
+                "startDay":"%s","endDay":"%s","startTime":"10:00","endTime":"11:00",\
+                "repeatType":"%s","repeatCount":%s,"repeatEndDate":null}"""
+                .formatted(date, date, day, day, weekly ? "WEEK" : "NONE", weekly ? "1" : "null");
+    }
+
+    private static Endpoint pick(Map<Endpoint, Integer> mix, int totalWeight) {
+        int value = ThreadLocalRandom.current().nextInt(totalWeight);
+        for (Map.Entry<Endpoint, Integer> entry : mix.entrySet()) {
+            value -= entry.getValue();
+            if (value < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new IllegalStateException("empty mix");
+    }
+
+    private static Map<Endpoint, Integer> parseMix(String value) {
+        Map<Endpoint, Integer> mix = new LinkedHashMap<>();
+        for (String part : value.split(",")) {
+            String[] pair = part.trim().split("=");
+            int weight = Integer.parseInt(pair[1].trim());
+            if (weight > 0) {
+                mix.put(Endpoint.valueOf(pair[0].trim().toUpperCase()), weight);
+            }
+        }
+        return mix;
+    }
+
+    private static void report(Map<Endpoint, EndpointStats> stats, long elapsedNanos, int targetRps) {
+        double seconds = elapsedNanos / 1e9;
+        StringBuilder report = new StringBuilder()
+                .append("\n=== Event load test (target ").append(targetRps).append(" rps, ")
+                .append(String.format("%.1f", seconds)).append("s) ===\n")
+                .append(String.format("%-8s %8s %9s %8s %9s %9s %9s %9s%n",
+                        "endpoint", "count", "rps", "errors", "p50(ms)", "p95(ms)", "p99(ms)", "max(ms)"));
+        stats.forEach((endpoint, endpointStats) -> {
+            Histogram histogram = endpointStats.histogram;
+            report.append(String.format("%-8s %8d %9.1f %7.2f%% %9.2f %9.2f %9.2f %9.2f%n",
+                    endpoint.name().toLowerCase(),
+                    endpointStats.count(),
+                    endpointStats.count() / seconds,
+                    endpointStats.count() == 0 ? 0 : 100.0 * endpointStats.errors() / endpointStats.count(),
+                    histogram.getValueAtPercentile(50) / 1000.0,
+                    histogram.getValueAtPercentile(95) / 1000.0,
+                    histogram.getValueAtPercentile(99) / 1000.0,
+                    histogram.getMaxValue() / 1000.0));
+        });
+        System.out.println(report);
+    }
+
+    private enum Endpoint {
+        CREATE, UPDATE, MONTH, DAY
+    }
+
+    private static final class EndpointStats {
+
+        private final Histogram histogram = new ConcurrentHistogram(MAX_LATENCY_MICROS, 3);
+        private final LongAdder errors = new LongAdder();
+
+        void record(long latencyNanos, boolean success) {
+            histogram.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(latencyNanos), MAX_LATENCY_MICROS));
+            if (!success) {
+                errors.increment();
+            }
+        }
+
+        long count() {
+            return histogram.getTotalCount();
+        }
+
+        long errors() {
+            return errors.sum();
+        }
+    }
+}
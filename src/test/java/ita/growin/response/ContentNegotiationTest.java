@@ -0,0 +1,89 @@
+package ita.growin.response;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import ita.growin.global.exception.errorcode.BusinessErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+@Transactional
+@ActiveProfiles("test")
+@SpringBootTest
+@AutoConfigureMockMvc(addFilters = false)
+class ContentNegotiationTest {
+
+    private static final MediaType CBOR = MediaType.parseMediaType("application/cbor");
+    private static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+
+    @Autowired MockMvc mockMvc;
+
+    @Test
+    @DisplayName("Accept가 없거나 */*이면 JSON으로 응답합니다.")
+    void json_is_default() throws Exception {
+        mockMvc.perform(get("/events/month/2025/11").accept(MediaType.ALL))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.data.content").isArray());
+    }
+
+    @Test
+    @DisplayName("Accept: application/cbor이면 같은 응답 구조를 CBOR로 응답하고, ETag를 JSON과 구분합니다.")
+    void cbor_month_response() throws Exception {
+        String jsonEtag = mockMvc.perform(get("/events/month/2025/11"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        byte[] body = mockMvc.perform(get("/events/month/2025/11").accept(CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(CBOR))
+                .andExpect(header().string(HttpHeaders.VARY, containsString(HttpHeaders.ACCEPT)))
+                .andExpect(header().string(HttpHeaders.ETAG, not(jsonEtag)))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        JsonNode response = new CBORMapper().readTree(body);
+        assertThat(response.get("status").asInt()).isEqualTo(200);
+        assertThat(response.get("data").get("content").isArray()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Accept에 cbor가 있어도 q값이 더 높은 JSON으로 협상되면 JSON과 같은 ETag를 씁니다.")
+    void etag_follows_negotiated_type() throws Exception {
+        String jsonEtag = mockMvc.perform(get("/events/month/2025/11").accept(MediaType.APPLICATION_JSON))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/events/month/2025/11")
+                        .header(HttpHeaders.ACCEPT, "application/cbor;q=0.1, application/json"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(header().string(HttpHeaders.ETAG, jsonEtag));
+    }
+
+    @Test
+    @DisplayName("에러 응답도 Accept: application/x-jackson-smile이면 Smile로 응답합니다.")
+    void smile_error_response() throws Exception {
+        byte[] body = mockMvc.perform(get("/business-error").accept(SMILE))
+                .andExpect(content().contentTypeCompatibleWith(SMILE))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        JsonNode response = new SmileMapper().readTree(body);
+        assertThat(response.get("code").asText()).isEqualTo(BusinessErrorCode.MEMBER_NOT_FOUND.getCode());
+        assertThat(response.get("message").asText()).isEqualTo(BusinessErrorCode.MEMBER_NOT_FOUND.getMessage());
+    }
+}
@@ -0,0 +1,68 @@
+-- 기간 조회 인덱스 벤치마크 (MySQL 8.0)
+-- 사용법: 빈 스키마에서 실행 후 각 EXPLAIN ANALYZE 결과의 rows / actual rows 와 Handler_read_* 값을 비교한다.
+--   mysql -u root -p growin_bench < event-overlap-index.sql
+
+SET SESSION cte_max_recursion_depth = 3000000;
+
+DROP TABLE IF EXISTS event;
+CREATE TABLE event (
+    event_id        BIGINT AUTO_INCREMENT PRIMARY KEY,
+    event_title     VARCHAR(255) NOT NULL,
+    all_day         BIT          NOT NULL,
+    start_date      DATE         NOT NULL,
+    end_date        DATE         NOT NULL,
+    start_day       VARCHAR(16)  NOT NULL,
+    end_day         VARCHAR(16)  NOT NULL,
+    start_time      TIME,
+    end_time        TIME,
+    repeat_type     VARCHAR(16)  NOT NULL,
+    repeat_count    INT,
+    repeat_end_date DATE,
+    user_id         BIGINT
+);
+
+-- 2,000,000건: 2015~2025년에 고르게 분포, 대부분 당일 일정, 약 2%는 반복 일정
+INSERT INTO event (event_title, all_day, start_date, end_date, start_day, end_day,
+                   start_time, end_time, repeat_type, repeat_count, repeat_end_date, user_id)
+WITH RECURSIVE seq(n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < 2000000)
+SELECT CONCAT('event-', n),
+       0,
+       DATE_ADD('2015-01-01', INTERVAL (n * 7919) % 4000 DAY),
+       DATE_ADD('2015-01-01', INTERVAL (n * 7919) % 4000 + (n % 10 = 0) * (n % 5) DAY),
+       'MONDAY', 'MONDAY',
+       '10:00', '11:00',
+       CASE WHEN n % 50 = 0 THEN 'WEEK' ELSE 'NONE' END,
+       CASE WHEN n % 50 = 0 THEN 1 END,
+       CASE WHEN n % 100 = 0 THEN DATE_ADD('2015-01-01', INTERVAL (n * 7919) % 4000 + 90 DAY) END,
+       n % 10000
+FROM seq;
+
+ANALYZE TABLE event;
+
+-- [before] 기존 쿼리, 인덱스 없음
+FLUSH STATUS;
+EXPLAIN ANALYZE
+SELECT * FROM event e
+WHERE e.start_date <= '2025-11-30' AND e.end_date >= '2025-11-01';
+SHOW SESSION STATUS LIKE 'Handler_read%';
+
+-- [after] 인덱스 추가
+CREATE INDEX idx_event_repeat_type_start_date ON event (repeat_type, start_date, end_date, repeat_end_date);
+ANALYZE TABLE event;
+
+-- [after] EventRepository.findAllInRange (spanFrom = startDate - 365일)
+FLUSH STATUS;
+EXPLAIN ANALYZE
+SELECT * FROM event e
+WHERE (e.repeat_type = 'NONE'
+       AND e.start_date BETWEEN '2024-11-01' AND '2025-11-30'
+       AND e.end_date >= '2025-11-01')
+   OR (e.repeat_type <> 'NONE'
+       AND e.start_date <= '2025-11-30'
+       AND (e.repeat_end_date IS NULL OR e.repeat_end_date >= '2025-11-01'));
+SHOW SESSION STATUS LIKE 'Handler_read%';
+
+-- 인덱스 적용 전 확인: 최대 기간(365일)을 넘는 기존 일정이 있으면 조회에서 누락된다. (운영 DB 정리는 db/migration/V2__event_repeat_type_index.sql)
+SELECT COUNT(*) AS too_long_events
+FROM event
+WHERE DATEDIFF(end_date, start_date) > 365;
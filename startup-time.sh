@@ -0,0 +1,37 @@
+#!/bin/bash
+# 기동 시간 비교: ./gradlew startupTime -Paot 로 실행 (build/libs의 bootJar, build/cds의 AOT + AppCDS 구성)
+# 각 방식을 RUNS번씩 컨텍스트 refresh 직후 종료시키고, JVM 시작부터 종료까지의 시간을 잰다.
+set -uo pipefail
+
+RUNS=${RUNS:-3}
+JAR=$(ls build/libs/*.jar | grep -v -- '-plain' | head -n 1)
+CDS_DIR=build/cds
+export SPRING_PROFILES_ACTIVE=${SPRING_PROFILES_ACTIVE:-dev,training}
+
+measure() {
+  local label=$1 dir=$2 jar=$3
+  shift 3
+  local total=0
+  for i in $(seq 1 "$RUNS"); do
+    local start end elapsed
+    start=$(date +%s%N)
+    if ! (cd "$dir" && java "$@" -Dspring.context.exit=onRefresh -jar "$jar" >/dev/null 2>&1); then
+      echo "[$label] run $i failed"
+      return
+    fi
+    end=$(date +%s%N)
+    elapsed=$(( (end - start) / 1000000 ))
+    total=$(( total + elapsed ))
+    echo "[$label] run $i: ${elapsed} ms"
+  done
+  echo "[$label] average: $(( total / RUNS )) ms"
+}
+
+measure "jar" . "$JAR"
+measure "aot" "$CDS_DIR" app.jar -Dspring.aot.enabled=true
+# 아카이브가 없으면 JVM은 경고만 남기고 CDS 없이 기동하므로, aot와 같은 값을 aot+cds로 보고하지 않도록 건너뛴다.
+if [ -s "$CDS_DIR/application.jsa" ]; then
+  measure "aot+cds" "$CDS_DIR" app.jar -Dspring.aot.enabled=true -XX:SharedArchiveFile=application.jsa
+else
+  echo "[aot+cds] skipped: $CDS_DIR/application.jsa not found"
+fi